@@ -0,0 +1,110 @@
+package org.vaadin.addons.build;
+
+import com.ibm.icu.text.DecimalFormat;
+import com.ibm.icu.text.DecimalFormatSymbols;
+import com.ibm.icu.text.NumberFormat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Generates {@code org.vaadin.addons.GeneratedMoneyFormatTables} holding the format tables of {@code TableMoneyFormatBackend} for the
+ * configured locales and currencies. Run by the build (see pom.xml) in source-file mode with ICU4J on the classpath:
+ * <pre>
+ * java -classpath icu4j.jar FormatTableGenerator.java &lt;output directory&gt; &lt;locales, e.g. de-DE,en-US&gt; &lt;currencies, e.g. EUR,USD&gt;
+ * </pre>
+ * The build fails for configured locales whose formats cannot be represented by a table (e.g. because they use non-latin digits), they
+ * need to be removed from the configuration (and are then handled by the fallback backend at runtime). The generated tables are verified
+ * against ICU4J by {@code MoneyFormatBackendTest}.
+ */
+public class FormatTableGenerator {
+
+    public static void main(String[] args) throws IOException {
+        Path outputDirectory = Path.of(args[0], "org", "vaadin", "addons");
+        String[] localeTags = args[1].split("\\s*,\\s*");
+        String[] currencyCodes = args[2].split("\\s*,\\s*");
+
+        List<String> entries = new ArrayList<>();
+        for (String localeTag : localeTags) {
+            String entry = localeEntry(Locale.forLanguageTag(localeTag), currencyCodes);
+            if (entry == null) {
+                throw new IllegalStateException("The format of " + localeTag + " cannot be represented by a format table (e.g. non-latin digits),"
+                    + " remove it from moneyfield.tables.locales");
+            }
+            entries.add(entry);
+        }
+
+        StringBuilder source = new StringBuilder()
+            .append("package org.vaadin.addons;\n\n")
+            .append("import java.math.RoundingMode;\n")
+            .append("import java.util.Locale;\n")
+            .append("import java.util.Map;\n\n")
+            .append("import org.vaadin.addons.TableMoneyFormatBackend.LocaleFormat;\n\n")
+            .append("/**\n * Generated by FormatTableGenerator during the build - do not edit.\n */\n")
+            .append("final class GeneratedMoneyFormatTables {\n\n")
+            .append("    static final Map<Locale, LocaleFormat> LOCALE_FORMATS = Map.ofEntries(\n")
+            .append(String.join(",\n", entries))
+            .append(");\n\n")
+            .append("    private GeneratedMoneyFormatTables() {\n    }\n}\n");
+        Files.createDirectories(outputDirectory);
+        Files.writeString(outputDirectory.resolve("GeneratedMoneyFormatTables.java"), source, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the source of the map entry for the given locale or {@code null} if the locale cannot be represented by a table
+     */
+    private static String localeEntry(Locale locale, String[] currencyCodes) {
+        DecimalFormat currencyFormat = (DecimalFormat) NumberFormat.getCurrencyInstance(locale);
+        DecimalFormat numberFormat = (DecimalFormat) NumberFormat.getNumberInstance(locale);
+        DecimalFormatSymbols currencySymbols = currencyFormat.getDecimalFormatSymbols();
+        DecimalFormatSymbols numberSymbols = numberFormat.getDecimalFormatSymbols();
+
+        int primaryGroupingSize = currencyFormat.isGroupingUsed() ? currencyFormat.getGroupingSize() : 0;
+        int secondaryGroupingSize = currencyFormat.getSecondaryGroupingSize() > 0 ? currencyFormat.getSecondaryGroupingSize() : primaryGroupingSize;
+        int minimumGroupingDigits = Math.max(currencyFormat.getMinimumGroupingDigits(), 1);
+        //the affixes are taken as formatted by ICU4J (including the currency symbol of the locale, which the MoneyField removes)
+        String positive = currencyFormat.format(BigDecimal.ONE);
+        String negative = currencyFormat.format(BigDecimal.ONE.negate());
+        if (!positive.matches("\\D*1\\D*0*\\D*") || !negative.matches("\\D*1\\D*0*\\D*")) {
+            return null; //e.g. non-latin digits
+        }
+
+        StringBuilder symbols = new StringBuilder();
+        for (String currencyCode : currencyCodes) {
+            symbols.append(symbols.length() == 0 ? "" : ", ")
+                .append(literal(currencyCode)).append(", ").append(literal(Currency.getInstance(currencyCode).getSymbol(locale)));
+        }
+
+        return "        Map.entry(Locale.forLanguageTag(" + literal(locale.toLanguageTag()) + "), new LocaleFormat(\n"
+            + "            " + literal(currencySymbols.getMonetaryDecimalSeparatorString()) + ", "
+            + literal(currencySymbols.getMonetaryGroupingSeparatorString()) + ", "
+            + primaryGroupingSize + ", " + secondaryGroupingSize + ", " + minimumGroupingDigits + ",\n"
+            + "            " + currencyFormat.getMinimumFractionDigits() + ", " + currencyFormat.getMaximumFractionDigits() + ", RoundingMode."
+            + RoundingMode.valueOf(currencyFormat.getRoundingMode()) + ",\n"
+            + "            " + literal(positive.replaceFirst("\\d.*", "")) + ", " + literal(positive.replaceFirst(".*\\d", "")) + ", "
+            + literal(negative.replaceFirst("\\d.*", "")) + ", " + literal(negative.replaceFirst(".*\\d", "")) + ",\n"
+            + "            " + literal(numberSymbols.getDecimalSeparatorString()) + ", " + literal(numberSymbols.getGroupingSeparatorString()) + ", "
+            + literal(numberSymbols.getMinusSignString()) + ", " + numberFormat.getMaximumFractionDigits() + ",\n"
+            + "            Map.of(" + symbols + ")))";
+    }
+
+    private static String literal(String text) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char ch : text.toCharArray()) {
+            if (ch >= 0x20 && ch < 0x7f && ch != '"' && ch != '\\') {
+                literal.append(ch);
+            } else {
+                literal.append(String.format("\\u%04x", (int) ch));
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
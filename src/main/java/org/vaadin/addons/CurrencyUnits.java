@@ -0,0 +1,32 @@
+package org.vaadin.addons;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.UnknownCurrencyException;
+
+/**
+ * Cache of the {@code CurrencyUnit}s resolved by {@code Monetary}, so that the currency providers (and their locks) are only consulted
+ * once per currency code. Lookups of cached currencies are lock-free.
+ * <p>
+ * Amounts are created from the cached units via {@code Money.of(BigDecimal, CurrencyUnit)}, which uses Moneta's static default context
+ * and neither resolves a currency nor a {@code MonetaryAmountFactory}.
+ */
+final class CurrencyUnits {
+    private static final Map<String, CurrencyUnit> CURRENCIES = new ConcurrentHashMap<>();
+
+    private CurrencyUnits() {
+    }
+
+    /**
+     * @param currencyCode the ISO-4217 three letter currency code
+     * @return the {@code CurrencyUnit} of the given code
+     * @throws UnknownCurrencyException if no currency provider knows the code
+     */
+    static CurrencyUnit of(String currencyCode) {
+        CurrencyUnit currency = CURRENCIES.get(currencyCode); //plain get, as computeIfAbsent might lock even if the key is present
+        return currency != null ? currency : CURRENCIES.computeIfAbsent(currencyCode, Monetary::getCurrency);
+    }
+}
@@ -0,0 +1,89 @@
+package org.vaadin.addons;
+
+import com.ibm.icu.text.DecimalFormat;
+import com.ibm.icu.text.NumberFormat; //don't use java.text.NumberFormat, since it does not support variable-width groups (as e.g. for indian formats)
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.vaadin.addons.MoneyFieldEvents.FormatterCreationEvent;
+
+/**
+ * {@code MoneyFormatBackend} based on ICU4J, supporting all locales including variable-width groups (e.g. 1,23,456.79 for India).
+ * Formats are created once per locale and cloned for every use, since they are not thread-safe.
+ */
+public class IcuMoneyFormatBackend implements MoneyFormatBackend {
+
+    private final Map<Locale, NumberFormat> currencyFormats = new ConcurrentHashMap<>();
+    private final Map<Locale, NumberFormat> numberFormats = new ConcurrentHashMap<>();
+
+    @Override
+    public String format(BigDecimal amount, Locale locale) {
+        return ((NumberFormat) currencyFormat(locale).clone()).format(amount);
+    }
+
+    @Override
+    public BigDecimal parse(String text, Locale locale) throws ParseException {
+        Number number = ((NumberFormat) numberFormat(locale).clone()).parse(text);
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        try {
+            return new BigDecimal(number.toString()); //com.ibm.icu.math.BigDecimal (as parsing to BigDecimal is enabled) or Long/Double
+        } catch (NumberFormatException e) {
+            throw new ParseException("Not a number: " + text, 0);
+        }
+    }
+
+    @Override
+    public int getMaximumFractionDigits(Locale locale) {
+        return numberFormat(locale).getMaximumFractionDigits();
+    }
+
+    @Override
+    public RoundingMode getRoundingMode(Locale locale) {
+        return RoundingMode.valueOf(numberFormat(locale).getRoundingMode());
+    }
+
+    @Override
+    public String getDecimalSeparator(Locale locale) {
+        return ((DecimalFormat) numberFormat(locale)).getDecimalFormatSymbols().getDecimalSeparatorString();
+    }
+
+    @Override
+    public String getGroupingSeparators(Locale locale) {
+        return MoneyFormatBackends.distinct(((DecimalFormat) numberFormat(locale)).getDecimalFormatSymbols().getGroupingSeparatorString(),
+            ((DecimalFormat) currencyFormat(locale)).getDecimalFormatSymbols().getMonetaryGroupingSeparatorString());
+    }
+
+    private NumberFormat currencyFormat(Locale locale) {
+        NumberFormat format = currencyFormats.get(locale);
+        return format != null ? format : currencyFormats.computeIfAbsent(locale, key -> createFormat(key, true));
+    }
+
+    private NumberFormat numberFormat(Locale locale) {
+        NumberFormat format = numberFormats.get(locale);
+        return format != null ? format : numberFormats.computeIfAbsent(locale, key -> createFormat(key, false));
+    }
+
+    /**
+     * Creates the {@code NumberFormat} of the given locale, recording a {@code FormatterCreationEvent}.
+     *
+     * @param currencyStyle if a currency format (rounding to the fraction digits of the currency) or a number format is created
+     */
+    private static NumberFormat createFormat(Locale locale, boolean currencyStyle) {
+        FormatterCreationEvent event = new FormatterCreationEvent();
+        event.begin();
+        NumberFormat format = currencyStyle ? NumberFormat.getCurrencyInstance(locale) : NumberFormat.getNumberInstance(locale);
+        if (format instanceof DecimalFormat) {
+            ((DecimalFormat) format).setParseBigDecimal(true);
+        }
+        event.style = currencyStyle ? "currency" : "number";
+        event.commitIfEnabled(locale, null, 0, true);
+        return format;
+    }
+}
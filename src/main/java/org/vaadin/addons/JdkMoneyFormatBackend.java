@@ -0,0 +1,96 @@
+package org.vaadin.addons;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.vaadin.addons.MoneyFieldEvents.FormatterCreationEvent;
+
+/**
+ * {@code MoneyFormatBackend} based on {@code java.text}, not needing ICU4J. Note that {@code java.text} only supports fixed-width groups,
+ * i.e. amounts are formatted like 123,456.79 in India instead of 1,23,456.79.
+ * Formats are created once per locale and cloned for every use, since they are not thread-safe.
+ */
+public class JdkMoneyFormatBackend implements MoneyFormatBackend {
+
+    private final Map<Locale, NumberFormat> currencyFormats = new ConcurrentHashMap<>();
+    private final Map<Locale, NumberFormat> numberFormats = new ConcurrentHashMap<>();
+
+    @Override
+    public String format(BigDecimal amount, Locale locale) {
+        return ((NumberFormat) currencyFormat(locale).clone()).format(amount);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * {@code java.text} only accepts the exact grouping separator of the locale (e.g. only non-breaking spaces in Poland), so grouping
+     * separators and whitespace are removed before parsing.
+     */
+    @Override
+    public BigDecimal parse(String text, Locale locale) throws ParseException {
+        DecimalFormatSymbols symbols = ((DecimalFormat) numberFormat(locale)).getDecimalFormatSymbols();
+        char groupingSeparator = symbols.getGroupingSeparator();
+        char decimalSeparator = symbols.getDecimalSeparator();
+        char minusSign = symbols.getMinusSign();
+
+        StringBuilder number = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == decimalSeparator) {
+                number.append('.');
+            } else if (ch == minusSign || ch == '-') {
+                number.append('-');
+            } else if (ch == '+' || (ch >= '0' && ch <= '9')) {
+                number.append(ch);
+            } else if (ch != groupingSeparator && !Character.isWhitespace(ch) && !Character.isSpaceChar(ch)) {
+                throw new ParseException("Unexpected: " + ch, i);
+            }
+        }
+        try {
+            return new BigDecimal(number.toString());
+        } catch (NumberFormatException e) {
+            throw new ParseException("Not a number: " + text, 0);
+        }
+    }
+
+    @Override
+    public int getMaximumFractionDigits(Locale locale) {
+        return numberFormat(locale).getMaximumFractionDigits();
+    }
+
+    @Override
+    public RoundingMode getRoundingMode(Locale locale) {
+        return numberFormat(locale).getRoundingMode();
+    }
+
+    private NumberFormat currencyFormat(Locale locale) {
+        NumberFormat format = currencyFormats.get(locale);
+        return format != null ? format : currencyFormats.computeIfAbsent(locale, key -> createFormat(key, true));
+    }
+
+    private NumberFormat numberFormat(Locale locale) {
+        NumberFormat format = numberFormats.get(locale);
+        return format != null ? format : numberFormats.computeIfAbsent(locale, key -> createFormat(key, false));
+    }
+
+    /**
+     * Creates the {@code NumberFormat} of the given locale, recording a {@code FormatterCreationEvent}.
+     *
+     * @param currencyStyle if a currency format (rounding to the fraction digits of the currency) or a number format is created
+     */
+    private static NumberFormat createFormat(Locale locale, boolean currencyStyle) {
+        FormatterCreationEvent event = new FormatterCreationEvent();
+        event.begin();
+        NumberFormat format = currencyStyle ? NumberFormat.getCurrencyInstance(locale) : NumberFormat.getNumberInstance(locale);
+        event.style = currencyStyle ? "currency" : "number";
+        event.commitIfEnabled(locale, null, 0, true);
+        return format;
+    }
+}
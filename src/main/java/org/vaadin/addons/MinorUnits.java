@@ -0,0 +1,54 @@
+package org.vaadin.addons;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.Money;
+
+/**
+ * Conversions between {@code MonetaryAmount}s and integral minor units (e.g. cents) using the fraction digits of the currency.
+ * Neither direction goes through {@code double} or {@code String}.
+ */
+final class MinorUnits {
+
+    /**
+     * Same rounding as used by {@code MoneyField} when formatting amounts.
+     */
+    static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_EVEN;
+
+    private MinorUnits() {
+    }
+
+    /**
+     * @return the number of fraction digits of the given currency, 0 for currencies without minor units (e.g. XAU)
+     */
+    static int fractionDigits(CurrencyUnit currency) {
+        return Math.max(currency.getDefaultFractionDigits(), 0);
+    }
+
+    /**
+     * @return the amount as a {@code BigDecimal} with exactly the given scale
+     */
+    static BigDecimal toScaled(MonetaryAmount amount, int scale) {
+        BigDecimal number = amount.getNumber().numberValue(BigDecimal.class);
+        return number.scale() == scale ? number : number.setScale(scale, ROUNDING_MODE);
+    }
+
+    /**
+     * @return the amount in minor units of the given fraction digits
+     * @throws ArithmeticException if the amount does not fit into a {@code long}
+     */
+    static long toMinor(MonetaryAmount amount, int fractionDigits) {
+        return toScaled(amount, fractionDigits).scaleByPowerOfTen(fractionDigits).longValueExact();
+    }
+
+    /**
+     * @return a {@code MonetaryAmount} of the given minor units in the given currency
+     */
+    static MonetaryAmount fromMinor(long minor, CurrencyUnit currency, int fractionDigits) {
+        return Money.of(BigDecimal.valueOf(minor, fractionDigits), currency);
+    }
+}
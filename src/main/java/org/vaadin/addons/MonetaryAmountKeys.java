@@ -0,0 +1,234 @@
+package org.vaadin.addons;
+
+import com.vaadin.flow.data.provider.SortDirection;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+import static org.vaadin.addons.MonetaryAmountToCurrencyIndexedLongConverter.AMOUNT_BITS;
+import static org.vaadin.addons.MonetaryAmountToCurrencyIndexedLongConverter.CURRENCY_BITS;
+import static org.vaadin.addons.MonetaryAmountToCurrencyIndexedLongConverter.MAX_AMOUNT;
+import static org.vaadin.addons.MonetaryAmountToCurrencyIndexedLongConverter.MIN_AMOUNT;
+
+/**
+ * Derives primitive {@code long} keys from {@code MonetaryAmount}s for sorting and range-filtering large data sets, e.g. as an indexed
+ * column that lazy data providers push their sort orders and {@link MoneyRange}s down to, or for sorting in memory without comparing
+ * {@code BigDecimal}s and looking up currencies per comparison.
+ * <p>
+ * Keys either group amounts by currency (ordered by the ISO-4217 numeric code of the currency, then by the amount in minor units as in
+ * {@link MonetaryAmountToCurrencyIndexedLongConverter}), or - given a rate table - hold the amount converted to a reference currency in
+ * its minor units, so that amounts of all currencies are ordered by their value. Either way keys are ordered like the amounts they are
+ * derived from. Amounts are rounded half-even.
+ */
+public class MonetaryAmountKeys implements Serializable {
+    private static final long serialVersionUID = 7391826042337581536L;
+
+    /**
+     * An inclusive range of keys.
+     *
+     * @param min the smallest key in the range
+     * @param max the largest key in the range
+     */
+    public record KeyRange(long min, long max) implements Serializable {
+
+        /**
+         * @param key the key to check
+         * @return if the key is in this range
+         */
+        public boolean contains(long key) {
+            return key >= min && key <= max;
+        }
+    }
+
+    private final CurrencyUnit referenceCurrency;
+
+    /**
+     * Amount of the reference currency per unit of a currency by currency index, {@code null} if keys are grouped by currency.
+     */
+    private final BigDecimal[] rates;
+
+    /**
+     * Constructs keys grouping amounts by currency.
+     */
+    public MonetaryAmountKeys() {
+        this.referenceCurrency = null;
+        this.rates = null;
+    }
+
+    /**
+     * Constructs keys of amounts converted to the given reference currency.
+     *
+     * @param referenceCurrency the currency all amounts are converted to
+     * @param rates the amount of the reference currency per unit of a currency by ISO-4217 three letter currency code, the rate of the
+     * reference currency itself is 1 unless given
+     * @throws IllegalArgumentException if a currency has no ISO-4217 numeric code
+     */
+    public MonetaryAmountKeys(CurrencyUnit referenceCurrency, Map<String, ? extends Number> rates) {
+        this.referenceCurrency = referenceCurrency;
+        this.rates = new BigDecimal[1 << CURRENCY_BITS];
+        this.rates[indexOf(referenceCurrency)] = BigDecimal.ONE;
+        rates.forEach((currencyCode, rate) -> this.rates[indexOf(CurrencyUnits.of(currencyCode))] = MoneyField.toBigDecimal(rate));
+    }
+
+    /**
+     * @return the reference currency amounts are converted to or {@code null} if keys are grouped by currency
+     */
+    public CurrencyUnit getReferenceCurrency() {
+        return referenceCurrency;
+    }
+
+    /**
+     * @param amount the amount to derive the key of
+     * @return the key of the amount
+     * @throws IllegalArgumentException if the currency of the amount has no ISO-4217 numeric code or no rate
+     * @throws ArithmeticException if the amount is too large for a key
+     */
+    public long keyOf(MonetaryAmount amount) {
+        CurrencyUnit currency = amount.getCurrency();
+        int index = indexOf(currency);
+        if (rates == null) {
+            long minor = MinorUnits.toMinor(amount, MinorUnits.fractionDigits(currency));
+            if (minor < MIN_AMOUNT || minor > MAX_AMOUNT) {
+                throw new ArithmeticException("Amount is too large for a key");
+            }
+            return currencyKey(index, minor);
+        }
+        return amount.getNumber().numberValue(BigDecimal.class).multiply(rateOf(index, currency))
+            .setScale(referenceScale(), MinorUnits.ROUNDING_MODE).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Translates the given range of amounts into a range of keys, e.g. for pushing a filter down to a query. Bounds with more fraction
+     * digits than their currency are rounded inwards (e.g. a minimum of 10.005 EUR to 10.01 EUR and a maximum of 19.995 EUR to 19.99 EUR).
+     *
+     * @param range the range of amounts
+     * @return the range of the keys of all amounts within the range
+     * @throws IllegalArgumentException if the range has bounds but no currency while keys are grouped by currency, or if its currency has
+     * no rate
+     */
+    public KeyRange keyRangeOf(MoneyRange range) {
+        if (rates == null) {
+            if (range.currencyCode() == null) {
+                if (range.min() != null || range.max() != null) {
+                    throw new IllegalArgumentException("Ranges need a currency unless amounts are converted to a reference currency");
+                }
+                return new KeyRange(Long.MIN_VALUE, Long.MAX_VALUE);
+            }
+            CurrencyUnit currency = CurrencyUnits.of(range.currencyCode());
+            int index = indexOf(currency);
+            int fractionDigits = MinorUnits.fractionDigits(currency);
+            return new KeyRange(
+                currencyKey(index, range.min() == null ? MIN_AMOUNT : clamp(range.min(), fractionDigits, RoundingMode.CEILING, MIN_AMOUNT, MAX_AMOUNT)),
+                currencyKey(index, range.max() == null ? MAX_AMOUNT : clamp(range.max(), fractionDigits, RoundingMode.FLOOR, MIN_AMOUNT, MAX_AMOUNT)));
+        }
+        BigDecimal rate = BigDecimal.ONE;
+        int fractionDigits = referenceScale();
+        if (range.currencyCode() != null) {
+            CurrencyUnit currency = CurrencyUnits.of(range.currencyCode());
+            rate = rateOf(indexOf(currency), currency);
+            fractionDigits = MinorUnits.fractionDigits(currency);
+        }
+        //bounds are rounded inwards to amounts of their currency, which are then converted like the amounts of keys
+        return new KeyRange(
+            range.min() == null ? Long.MIN_VALUE : clamp(range.min().setScale(fractionDigits, RoundingMode.CEILING).multiply(rate),
+                referenceScale(), MinorUnits.ROUNDING_MODE, Long.MIN_VALUE, Long.MAX_VALUE),
+            range.max() == null ? Long.MAX_VALUE : clamp(range.max().setScale(fractionDigits, RoundingMode.FLOOR).multiply(rate),
+                referenceScale(), MinorUnits.ROUNDING_MODE, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    /**
+     * Creates a filter for items with amounts within the given range. Derives one key per item, never compares {@code BigDecimal}s.
+     *
+     * @param range the range of amounts
+     * @param amountOf the amount of an item
+     * @param <T> the type of the items
+     * @return the filter, rejecting items without amount
+     */
+    public <T> Predicate<T> filter(MoneyRange range, Function<? super T, MonetaryAmount> amountOf) {
+        KeyRange keyRange = keyRangeOf(range);
+        return item -> {
+            MonetaryAmount amount = amountOf.apply(item);
+            return amount != null && keyRange.contains(keyOf(amount));
+        };
+    }
+
+    /**
+     * Sorts the given items by their amounts, deriving the key of every item once instead of comparing {@code BigDecimal}s and looking up
+     * currencies per comparison.
+     *
+     * @param items the items to sort
+     * @param amountOf the amount of an item
+     * @param direction the direction to sort in
+     * @param <T> the type of the items
+     * @return the sorted items, items without amount last
+     */
+    public <T> List<T> sort(Collection<? extends T> items, Function<? super T, MonetaryAmount> amountOf, SortDirection direction) {
+        record KeyedItem<T>(long key, T item) {
+        }
+
+        List<KeyedItem<T>> keyedItems = new ArrayList<>(items.size());
+        List<T> itemsWithoutAmount = new ArrayList<>();
+        for (T item : items) {
+            MonetaryAmount amount = amountOf.apply(item);
+            if (amount == null) {
+                itemsWithoutAmount.add(item);
+            } else {
+                keyedItems.add(new KeyedItem<>(keyOf(amount), item));
+            }
+        }
+        Comparator<KeyedItem<T>> byKey = Comparator.comparingLong(KeyedItem::key);
+        keyedItems.sort(direction == SortDirection.DESCENDING ? byKey.reversed() : byKey);
+
+        List<T> sortedItems = new ArrayList<>(items.size());
+        keyedItems.forEach(keyedItem -> sortedItems.add(keyedItem.item()));
+        sortedItems.addAll(itemsWithoutAmount);
+        return sortedItems;
+    }
+
+    private int referenceScale() {
+        return MinorUnits.fractionDigits(referenceCurrency);
+    }
+
+    private BigDecimal rateOf(int index, CurrencyUnit currency) {
+        BigDecimal rate = rates[index];
+        if (rate == null) {
+            throw new IllegalArgumentException("No rate for " + currency.getCurrencyCode());
+        }
+        return rate;
+    }
+
+    private static int indexOf(CurrencyUnit currency) {
+        int index = MonetaryAmountToCurrencyIndexedLongConverter.indexOf(currency);
+        if (index < 0) {
+            throw new IllegalArgumentException("Currency " + currency.getCurrencyCode() + " has no key");
+        }
+        return index;
+    }
+
+    /**
+     * @return the key of the given currency index and minor units, ordered by currency index first (the amount is biased to be non-negative
+     * and the sign bit flipped, so that signed comparison of keys matches the unsigned order of currency index and amount)
+     */
+    private static long currencyKey(int index, long minor) {
+        return ((long) index << AMOUNT_BITS | (minor - MIN_AMOUNT)) ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * @return the given bound in units of the given scale, rounded with the given rounding mode and clamped to the given range
+     */
+    private static long clamp(BigDecimal bound, int scale, RoundingMode roundingMode, long min, long max) {
+        BigDecimal scaled = bound.setScale(scale, roundingMode).movePointRight(scale);
+        return scaled.max(BigDecimal.valueOf(min)).min(BigDecimal.valueOf(max)).longValueExact();
+    }
+}
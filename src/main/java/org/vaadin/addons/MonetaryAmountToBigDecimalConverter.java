@@ -0,0 +1,67 @@
+package org.vaadin.addons;
+
+import com.vaadin.flow.data.binder.Result;
+import com.vaadin.flow.data.binder.ValueContext;
+import com.vaadin.flow.data.converter.Converter;
+
+import java.math.BigDecimal;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.Money;
+
+/**
+ * Converts between the {@code MonetaryAmount} of a {@code MoneyField} and a {@code BigDecimal} of a fixed currency, e.g. for persisting
+ * amounts in a {@code DECIMAL} column plus a separately stored currency code.
+ * The scale of the {@code BigDecimal} is the number of fraction digits of the currency unless given explicitly, amounts with more fraction
+ * digits are rounded half-even. Never goes through {@code double} or {@code String}.
+ */
+public class MonetaryAmountToBigDecimalConverter implements Converter<MonetaryAmount, BigDecimal> {
+    private static final long serialVersionUID = 4620931596581749305L;
+
+    private final CurrencyUnit currency;
+    private final int scale;
+
+    /**
+     * @param currency the currency of all amounts converted
+     * @param scale the scale of the converted {@code BigDecimal}s
+     */
+    public MonetaryAmountToBigDecimalConverter(CurrencyUnit currency, int scale) {
+        this.currency = currency;
+        this.scale = scale;
+    }
+
+    /**
+     * @param currency the currency of all amounts converted, its fraction digits are used as scale
+     */
+    public MonetaryAmountToBigDecimalConverter(CurrencyUnit currency) {
+        this(currency, MinorUnits.fractionDigits(currency));
+    }
+
+    /**
+     * @param currencyCode the ISO-4217 three letter currency code of all amounts converted, its fraction digits are used as scale
+     */
+    public MonetaryAmountToBigDecimalConverter(String currencyCode) {
+        this(CurrencyUnits.of(currencyCode));
+    }
+
+    @Override
+    public Result<BigDecimal> convertToModel(MonetaryAmount monetaryAmount, ValueContext valueContext) {
+        if (monetaryAmount == null) {
+            return Result.ok(null);
+        }
+        if (!currency.equals(monetaryAmount.getCurrency())) {
+            return Result.error("Currency must be " + currency.getCurrencyCode());
+        }
+        return Result.ok(MinorUnits.toScaled(monetaryAmount, scale));
+    }
+
+    @Override
+    public MonetaryAmount convertToPresentation(BigDecimal number, ValueContext valueContext) {
+        if (number == null) {
+            return null;
+        }
+        return Money.of(number, currency);
+    }
+}
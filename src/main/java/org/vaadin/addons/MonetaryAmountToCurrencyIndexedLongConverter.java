@@ -0,0 +1,100 @@
+package org.vaadin.addons;
+
+import com.vaadin.flow.data.binder.Result;
+import com.vaadin.flow.data.binder.ValueContext;
+import com.vaadin.flow.data.converter.Converter;
+
+import java.util.Comparator;
+import java.util.Currency;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+/**
+ * Converts between the {@code MonetaryAmount} of a {@code MoneyField} and a single {@code long} holding both the currency and the amount,
+ * e.g. for persisting amounts of arbitrary currencies in a single {@code BIGINT} column.
+ * <p>
+ * The upper {@value #CURRENCY_BITS} bits hold the ISO-4217 numeric code of the currency (e.g. 978 for EUR), the lower {@value #AMOUNT_BITS}
+ * bits hold the amount in minor units of that currency (two's complement, i.e. about ±9·10<sup>15</sup> minor units). Amounts with more
+ * fraction digits than their currency are rounded half-even. Never goes through {@code double} or {@code String}.
+ */
+public class MonetaryAmountToCurrencyIndexedLongConverter implements Converter<MonetaryAmount, Long> {
+    private static final long serialVersionUID = 2993180751304547104L;
+
+    static final int CURRENCY_BITS = 10;
+    static final int AMOUNT_BITS = Long.SIZE - CURRENCY_BITS;
+    private static final long AMOUNT_MASK = (1L << AMOUNT_BITS) - 1;
+    static final long MIN_AMOUNT = -(1L << (AMOUNT_BITS - 1));
+    static final long MAX_AMOUNT = (1L << (AMOUNT_BITS - 1)) - 1;
+
+    /**
+     * Lazily initialized lookup from ISO-4217 numeric code to currency, so that decoding needs no currency lookup.
+     */
+    private static final class CurrencyIndex {
+        private static final CurrencyUnit[] CURRENCIES = new CurrencyUnit[1 << CURRENCY_BITS];
+
+        static {
+            //historic currencies might share numeric codes with current ones - take the alphabetically first one for such codes
+            Currency.getAvailableCurrencies().stream()
+                .filter(currency -> currency.getNumericCode() > 0 && currency.getNumericCode() < CURRENCIES.length)
+                .sorted(Comparator.comparing(Currency::getCurrencyCode))
+                .forEach(currency -> {
+                    if (CURRENCIES[currency.getNumericCode()] == null) {
+                        CURRENCIES[currency.getNumericCode()] = CurrencyUnits.of(currency.getCurrencyCode());
+                    }
+                });
+        }
+    }
+
+    /**
+     * @return the index (ISO-4217 numeric code) of the given currency or -1 if the currency cannot be encoded
+     */
+    static int indexOf(CurrencyUnit currency) {
+        int numericCode = currency.getNumericCode();
+        if (numericCode <= 0 || numericCode >= CurrencyIndex.CURRENCIES.length || !currency.equals(CurrencyIndex.CURRENCIES[numericCode])) {
+            return -1;
+        }
+        return numericCode;
+    }
+
+    /**
+     * @return the currency of the given index (ISO-4217 numeric code) or {@code null} if there is none
+     */
+    static CurrencyUnit currencyOf(int index) {
+        return index > 0 && index < CurrencyIndex.CURRENCIES.length ? CurrencyIndex.CURRENCIES[index] : null;
+    }
+
+    @Override
+    public Result<Long> convertToModel(MonetaryAmount monetaryAmount, ValueContext valueContext) {
+        if (monetaryAmount == null) {
+            return Result.ok(null);
+        }
+        CurrencyUnit currency = monetaryAmount.getCurrency();
+        int index = indexOf(currency);
+        if (index < 0) {
+            return Result.error("Currency " + currency.getCurrencyCode() + " cannot be encoded");
+        }
+        try {
+            long minor = MinorUnits.toMinor(monetaryAmount, MinorUnits.fractionDigits(currency));
+            if (minor < MIN_AMOUNT || minor > MAX_AMOUNT) {
+                return Result.error("Amount is too large");
+            }
+            return Result.ok(((long) index << AMOUNT_BITS) | (minor & AMOUNT_MASK));
+        } catch (ArithmeticException e) {
+            return Result.error("Amount is too large");
+        }
+    }
+
+    @Override
+    public MonetaryAmount convertToPresentation(Long encoded, ValueContext valueContext) {
+        if (encoded == null) {
+            return null;
+        }
+        CurrencyUnit currency = currencyOf((int) (encoded >>> AMOUNT_BITS));
+        if (currency == null) {
+            throw new IllegalArgumentException("Unknown currency index in " + encoded);
+        }
+        long minor = (encoded << CURRENCY_BITS) >> CURRENCY_BITS; //sign-extend the amount bits
+        return MinorUnits.fromMinor(minor, currency, MinorUnits.fractionDigits(currency));
+    }
+}
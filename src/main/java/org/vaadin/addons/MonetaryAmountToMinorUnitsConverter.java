@@ -0,0 +1,59 @@
+package org.vaadin.addons;
+
+import com.vaadin.flow.data.binder.Result;
+import com.vaadin.flow.data.binder.ValueContext;
+import com.vaadin.flow.data.converter.Converter;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+/**
+ * Converts between the {@code MonetaryAmount} of a {@code MoneyField} and a {@code long} of minor units (e.g. cents) of a fixed currency,
+ * e.g. for persisting amounts as minor units plus a separately stored currency code.
+ * The number of minor units is derived from the fraction digits of the currency (e.g. 2 for EUR, 0 for JPY, 3 for BHD), amounts with
+ * more fraction digits are rounded half-even. Never goes through {@code double} or {@code String}.
+ */
+public class MonetaryAmountToMinorUnitsConverter implements Converter<MonetaryAmount, Long> {
+    private static final long serialVersionUID = -2409517307145312187L;
+
+    private final CurrencyUnit currency;
+    private final int fractionDigits;
+
+    /**
+     * @param currency the currency of all amounts converted
+     */
+    public MonetaryAmountToMinorUnitsConverter(CurrencyUnit currency) {
+        this.currency = currency;
+        this.fractionDigits = MinorUnits.fractionDigits(currency);
+    }
+
+    /**
+     * @param currencyCode the ISO-4217 three letter currency code of all amounts converted
+     */
+    public MonetaryAmountToMinorUnitsConverter(String currencyCode) {
+        this(CurrencyUnits.of(currencyCode));
+    }
+
+    @Override
+    public Result<Long> convertToModel(MonetaryAmount monetaryAmount, ValueContext valueContext) {
+        if (monetaryAmount == null) {
+            return Result.ok(null);
+        }
+        if (!currency.equals(monetaryAmount.getCurrency())) {
+            return Result.error("Currency must be " + currency.getCurrencyCode());
+        }
+        try {
+            return Result.ok(MinorUnits.toMinor(monetaryAmount, fractionDigits));
+        } catch (ArithmeticException e) {
+            return Result.error("Amount is too large");
+        }
+    }
+
+    @Override
+    public MonetaryAmount convertToPresentation(Long minorUnits, ValueContext valueContext) {
+        if (minorUnits == null) {
+            return null;
+        }
+        return MinorUnits.fromMinor(minorUnits, currency, fractionDigits);
+    }
+}
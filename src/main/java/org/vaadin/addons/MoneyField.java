@@ -1,32 +1,46 @@
 package org.vaadin.addons;
 
-import com.ibm.icu.text.NumberFormat; //don't use java.text.NumberFormat, since it does not support variable-width groups (as e.g. for indian formats)
+import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.component.Text;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.Unit;
 import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.combobox.ComboBoxVariant;
 import com.vaadin.flow.component.customfield.CustomField;
 import com.vaadin.flow.component.customfield.CustomFieldVariant;
+import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.orderedlayout.FlexComponent.Alignment;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.component.textfield.TextFieldVariant;
+import com.vaadin.flow.i18n.LocaleChangeEvent;
+import com.vaadin.flow.i18n.LocaleChangeObserver;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.math.BigInteger;
 import java.text.ParseException;
+import java.util.AbstractList;
 import java.util.Currency;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
+import javax.money.NumberValue;
 
 import org.apache.commons.lang3.StringUtils;
 import org.javamoney.moneta.Money;
+import org.vaadin.addons.MoneyFieldEvents.EvalEvent;
+import org.vaadin.addons.MoneyFieldEvents.FormatEvent;
+import org.vaadin.addons.MoneyFieldEvents.ParseEvent;
 
 /**
  * Composite component for a JSR-354 {@code MonetaryAmount} consisting of a {@code TextField} for the amount and a {@code ComboBox} for the
@@ -34,9 +48,14 @@ import org.javamoney.moneta.Money;
  * Note that money entries are automatically formatted and rounded according to the <code>java.util.Locale</code> of this component.
  * This means that for e.g. 1234.567 with Locale("en", "US") results in 1,234.57 but with Locale("de", "DE") it results in 1.234.567
  *
+ * <p>
+ * Calculable fields preview the result of an expression while it is being typed (see {@code moneyfield-eval.ts}), the committed value is
+ * still evaluated on the server.
+ *
  * @author Sebastian Dietrich
  */
-public class MoneyField extends CustomField<MonetaryAmount> {
+@JsModule("./moneyfield-eval.ts")
+public class MoneyField extends CustomField<MonetaryAmount> implements LocaleChangeObserver {
     private static final float MIN_WIDTH_OF_AMOUNTS = 3.6f; //to hold 1 digit amounts including currency icon like "€ 1,00"
     private static final float WIDTH_OF_CURRENCIES = 5.45f; //smallest size so that currencies like MWK, MMK, TMM just fit into the field
 
@@ -45,6 +64,10 @@ public class MoneyField extends CustomField<MonetaryAmount> {
     //depending on locale amounts can have different delimiters and group-length (e.g. 1,23,450 for India, 1 234 567 for Poland (\\h = whitespace))
     private static final Pattern AMOUNT_PATTERN = Pattern.compile("^\\s*([-+]?)(\\d{1,4}([.,\\h]?\\d{2,4})*([.,]\\d+)?)?$");
     private static final String NUMBER_CHARS = "0123456789., \u00a0"; //all allowed characters in a number (including space and &nbsp; for polish numbers)
+    private static final Pattern NON_AMOUNT_CHARS_PATTERN = Pattern.compile("[^\\d.,\\h-]");
+    private static final Pattern LEADING_SPACE_PATTERN = Pattern.compile("^\\h");
+    private static final Pattern TRAILING_SPACES_PATTERN = Pattern.compile("\\h+$");
+    private static final String INSTALL_EVALUATION_PREVIEW_JS = "window.Vaadin.Flow.moneyField.installEvaluationPreview(this, $0, $1, $2, $3, $4, $5)";
     private static final Pattern CALCULABLE_AMOUNT_PATTERN = Pattern.compile("^\\s*\\(*([-+]?(\\d{1,4}([.,\\h]?\\d{2,4})*([.,]\\d+)?)?)(\\h*([-+*/^]\\h*\\(*(\\h*[-+]?\\d{1,4}([.,\\h]?\\d{2,4})*([.,]\\d+)?)\\h*\\)*\\h*)*)$");
 
     /**
@@ -58,6 +81,61 @@ public class MoneyField extends CustomField<MonetaryAmount> {
     private final ComboBox<String> currency;
 
     private boolean calculable;
+
+    /**
+     * Amount already formatted for the value currently being set (e.g. formatted outside of the UI lock), {@code null} if the amount needs to be formatted.
+     */
+    private transient String preformattedAmount;
+
+    /**
+     * The currency symbol currently shown as prefix in the amount, {@code null} if none is shown.
+     */
+    private String shownCurrencySymbol;
+
+    /**
+     * Formatting state of a single locale shared by all {@code MoneyField}s of a {@code UI} while reformatting them upon a locale change,
+     * so that formatters and currency symbols are resolved once per locale change instead of once per field.
+     */
+    private static final class LocaleChangeBatch implements Serializable {
+        private static final long serialVersionUID = -2851035817468730517L;
+
+        private final Locale locale;
+        private final Map<String, String> currencySymbols = new HashMap<>();
+        private Serializable[] evaluatorParameters;
+
+        private LocaleChangeBatch(Locale locale) {
+            this.locale = locale;
+        }
+
+        /**
+         * @return the batch of the current locale change of the given {@code UI}, which is discarded before the response is sent to the client
+         */
+        static LocaleChangeBatch of(UI ui, Locale locale) {
+            LocaleChangeBatch batch = ComponentUtil.getData(ui, LocaleChangeBatch.class);
+            if (batch == null || !batch.locale.equals(locale)) {
+                batch = new LocaleChangeBatch(locale);
+                ComponentUtil.setData(ui, LocaleChangeBatch.class, batch);
+                ui.beforeClientResponse(ui, context -> ComponentUtil.setData(ui, LocaleChangeBatch.class, null));
+            }
+            return batch;
+        }
+
+        String formatAmount(Number amount) {
+            return MoneyField.formatAmount(amount, locale);
+        }
+
+        String currencySymbol(String currencyCode) {
+            return currencySymbols.computeIfAbsent(currencyCode, code -> MoneyFormatBackend.getDefault().getCurrencySymbol(code, locale));
+        }
+
+        Serializable[] evaluatorParameters() {
+            if (evaluatorParameters == null) {
+                evaluatorParameters = MoneyField.evaluatorParameters(locale);
+            }
+            return evaluatorParameters;
+        }
+    }
+
     /**
      * Constructs an empty {@code MoneyField}.
      */
@@ -204,7 +282,39 @@ public class MoneyField extends CustomField<MonetaryAmount> {
     }
 
     private static List<String> getAvailableCurrencyCodes() {
-        return Currency.getAvailableCurrencies().stream().map(Currency::getCurrencyCode).sorted().collect(Collectors.toList());
+        return AvailableCurrencyCodes.INSTANCE;
+    }
+
+    /**
+     * Lazily initialized, shared and immutable list of all available currency codes, so that the JDK currency data is only walked once.
+     * <p>
+     * The list is serialized without its codes and restored by reference, so that replicated sessions neither carry nor duplicate the
+     * several hundred codes in the {@code ComboBox} of each {@code MoneyField}.
+     */
+    static final class AvailableCurrencyCodes extends AbstractList<String> implements RandomAccess, Serializable {
+        private static final long serialVersionUID = 4417235128836502716L;
+
+        static final AvailableCurrencyCodes INSTANCE = new AvailableCurrencyCodes();
+
+        private final transient String[] codes = Currency.getAvailableCurrencies().stream().map(Currency::getCurrencyCode).sorted()
+            .toArray(String[]::new);
+
+        private AvailableCurrencyCodes() {
+        }
+
+        @Override
+        public String get(int index) {
+            return codes[index];
+        }
+
+        @Override
+        public int size() {
+            return codes.length;
+        }
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
     }
 
     /**
@@ -284,34 +394,114 @@ public class MoneyField extends CustomField<MonetaryAmount> {
             clear();
             return;
         }
-        setAmount(monetaryAmount.getNumber());
+        if (preformattedAmount != null) {
+            setSanitizedAmount(preformattedAmount);
+        } else {
+            setAmount(monetaryAmount.getNumber());
+        }
         setCurrency(monetaryAmount.getCurrency().getCurrencyCode());
     }
 
     @Override
     protected MonetaryAmount generateModelValue() {
-        com.ibm.icu.text.NumberFormat currencyFormat = NumberFormat.getCurrencyInstance(getLocale());
-        com.ibm.icu.text.NumberFormat numberFormat = NumberFormat.getNumberInstance(getLocale());
-
         String textualAmount = amount.getValue();
         if (textualAmount.isBlank()) {
             return null;
         }
-        if ((calculable ? CALCULABLE_AMOUNT_PATTERN : AMOUNT_PATTERN).matcher(textualAmount).matches()) {
-            try {
-                String formattedAmount = currencyFormat.format(calculable ? eval(textualAmount, numberFormat) : numberFormat.parse(textualAmount));
-                setAmount(formattedAmount);
-                if (StringUtils.isEmpty(currency.getValue())) return null;
+
+        Locale locale = getLocale();
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        boolean valid = false;
+        try {
+            ParsedAmount parsedAmount = parseAmount(textualAmount, calculable, locale);
+            if (parsedAmount != null) {
+                setSanitizedAmount(parsedAmount.formattedAmount());
+                valid = true;
+                if (StringUtils.isEmpty(currency.getValue())) {
+                    return null;
+                }
                 this.setInvalid(false);
-                return Money.of(currencyFormat.parse(formattedAmount), currency.getValue());
-            } catch (ParseException | ArithmeticException e) {
-                //do nothing, just set the field invalid
+                return Money.of(parsedAmount.number(), CurrencyUnits.of(currency.getValue()));
             }
+            this.setInvalid(true);
+            return null;
+        } finally {
+            event.commitIfEnabled(locale, currency.getValue(), textualAmount.length(), valid);
         }
-        this.setInvalid(true);
-        return null;
     }
 
+    /**
+     * An amount parsed from text, rounded the same way as it is shown.
+     *
+     * @param number the amount
+     * @param formattedAmount the formatted amount excluding currency symbols
+     */
+    record ParsedAmount(BigDecimal number, String formattedAmount) implements Serializable {
+    }
+
+    /**
+     * Parses (and if calculable evaluates) the given text the same way as text entered into a {@code MoneyField}. Does not access any
+     * component, so it can be called outside of the UI lock and from any thread.
+     *
+     * @param text the entered text
+     * @param calculable if the text may be an arithmetic expression
+     * @param locale the {@code Locale} to parse and format for
+     * @return the parsed amount or {@code null} if the text is invalid
+     */
+    static ParsedAmount parseAmount(String text, boolean calculable, Locale locale) {
+        if (!(calculable ? CALCULABLE_AMOUNT_PATTERN : AMOUNT_PATTERN).matcher(text).matches()) {
+            return null;
+        }
+        try {
+            MoneyFormatBackend backend = MoneyFormatBackend.getDefault();
+            BigDecimal number = calculable ? eval(text, backend, locale) : backend.parse(text, locale);
+            String formattedAmount = formatAmount(number, locale);
+            return new ParsedAmount(backend.parse(formattedAmount, locale), formattedAmount);
+        } catch (ParseException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Sets the value from text pasted into this field that has already been parsed by {@link #parseAmount(String, boolean, Locale)}, just
+     * as if the text had been entered by the user. Blank text clears the value, invalid text is shown as is and marks the field invalid.
+     *
+     * @param text the pasted text
+     * @param parsedAmount the parsed text or {@code null} if the text is invalid
+     * @return if the pasted text is valid
+     */
+    boolean setPastedAmount(String text, ParsedAmount parsedAmount) {
+        if (text.isBlank()) {
+            setSanitizedAmount("");
+            setModelValue(null, true);
+            return true;
+        }
+        if (parsedAmount == null) {
+            setSanitizedAmount(text.strip());
+            setInvalid(true);
+            setModelValue(null, true);
+            return false;
+        }
+        setSanitizedAmount(parsedAmount.formattedAmount());
+        setInvalid(false);
+        setModelValue(StringUtils.isEmpty(currency.getValue()) ? null : Money.of(parsedAmount.number(), CurrencyUnits.of(currency.getValue())), true);
+        return true;
+    }
+
+    /**
+     * @return if this field allows basic arithmetic expressions to be calculated
+     */
+    boolean isCalculable() {
+        return calculable;
+    }
+
+    /**
+     * @return if the user can't change the amount, see {@link #setReadOnly(boolean)}
+     */
+    boolean isAmountReadOnly() {
+        return amount.isReadOnly();
+    }
 
     /**
      * Evaluate arithmetic expression including +, -, *, /, (), ^ (exponentiation)
@@ -319,85 +509,97 @@ public class MoneyField extends CustomField<MonetaryAmount> {
      * @see https://stackoverflow.com/questions/3422673/how-to-evaluate-a-math-expression-given-in-string-form (removed functions like sin, sqrt, ...)
      * @throws ParseException when the expression cannot be parsed
      */
-    private BigDecimal eval(final String str, final com.ibm.icu.text.NumberFormat numberFormat) throws ParseException, ArithmeticException {
-        return new Object() {
-            private int pos = -1;
-            private int ch;
-
-            void nextChar() {
-                ch = (++pos < str.length()) ? str.charAt(pos) : (char)-1;
-            }
-
-            boolean eat(int charToEat) {
-                while (ch == ' ') nextChar();
-                if (ch == charToEat) {
-                    nextChar();
-                    return true;
+    private static BigDecimal eval(final String str, final MoneyFormatBackend backend, final Locale locale) throws ParseException, ArithmeticException {
+        EvalEvent event = new EvalEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            BigDecimal result = new Object() {
+                private int pos = -1;
+                private int ch;
+
+                void nextChar() {
+                    ch = (++pos < str.length()) ? str.charAt(pos) : (char)-1;
                 }
-                return false;
-            }
-
-            BigDecimal parse() throws ParseException, ArithmeticException {
-                nextChar();
-                BigDecimal number = parseExpression();
-                if (pos < str.length()) throw new ParseException("Unexpected: " + (char)ch, pos);
-                return number;
-            }
 
-            // Grammar:
-            // expression = term | expression `+` term | expression `-` term
-            // term = factor | term `*` factor | term `/` factor
-            // factor = `+` factor | `-` factor | `(` expression `)` | factor `^` factor
-
-            BigDecimal parseExpression() throws ParseException, ArithmeticException {
-                BigDecimal term = parseTerm();
-                for (;;) {
-                    if (eat('+')) term = term.add(parseTerm()); // addition
-                    else if (eat('-')) term = term.subtract(parseTerm()); // subtraction
-                    else return term;
+                boolean eat(int charToEat) {
+                    while (ch == ' ') nextChar();
+                    if (ch == charToEat) {
+                        nextChar();
+                        return true;
+                    }
+                    return false;
                 }
-            }
 
-            BigDecimal parseTerm() throws ParseException, ArithmeticException {
-                BigDecimal factor = parseFactor();
-                for (;;) {
-                    if (eat('*')) factor = factor.multiply(parseFactor()); // multiplication
-                    else if (eat('/')) {
-                        factor = factor.divide(parseFactor(), 
-                            numberFormat.getMaximumFractionDigits(), RoundingMode.valueOf(numberFormat.getRoundingMode())); // division
-                    } else return factor;
+                BigDecimal parse() throws ParseException, ArithmeticException {
+                    nextChar();
+                    BigDecimal number = parseExpression();
+                    if (pos < str.length()) throw new ParseException("Unexpected: " + (char)ch, pos);
+                    return number;
                 }
-            }
 
-            BigDecimal parseFactor() throws ParseException, ArithmeticException {
-                if (eat('+')) return parseFactor(); // unary plus
-                if (eat('-')) return parseFactor().negate(); // unary minus
-
-                BigDecimal number;
-                int startPos = this.pos;
-                if (eat('(')) { // parentheses
-                    number = parseExpression();
-                    if (!eat(')')) throw new ParseException("Missing ')'", pos);
-                } else if (NUMBER_CHARS.indexOf(ch) >= 0) {
-                    while (NUMBER_CHARS.indexOf(ch) >= 0) nextChar();
-                    number = new BigDecimal(numberFormat.parse(str.substring(startPos, pos)).toString());
-                } else {
-                    throw new ParseException("Unexpected: " + (char)ch, pos);
+                // Grammar:
+                // expression = term | expression `+` term | expression `-` term
+                // term = factor | term `*` factor | term `/` factor
+                // factor = `+` factor | `-` factor | `(` expression `)` | factor `^` factor
+
+                BigDecimal parseExpression() throws ParseException, ArithmeticException {
+                    BigDecimal term = parseTerm();
+                    for (;;) {
+                        if (eat('+')) term = term.add(parseTerm()); // addition
+                        else if (eat('-')) term = term.subtract(parseTerm()); // subtraction
+                        else return term;
+                    }
                 }
 
-                if (eat('^')) { // exponentiation
-                    BigDecimal exponent = parseFactor();
-                    if (exponent.scale() <= 0)
-                        return number.pow(exponent.intValue());
-                    if (number.compareTo(BigDecimal.valueOf(number.doubleValue())) == 0)
-                        return BigDecimal.valueOf(Math.pow(number.doubleValue(), exponent.doubleValue()));
-                    throw new ParseException("Exponentiation on large numbers is not available for exponents with decimals like " + exponent.toString(), pos);    
-                    //if necessary this could be implemented using Cornell Universities implementation of core math functionalities https://arxiv.org/src/0908.3030v3/anc
+                BigDecimal parseTerm() throws ParseException, ArithmeticException {
+                    BigDecimal factor = parseFactor();
+                    for (;;) {
+                        if (eat('*')) factor = factor.multiply(parseFactor()); // multiplication
+                        else if (eat('/')) {
+                            factor = factor.divide(parseFactor(), 
+                                backend.getMaximumFractionDigits(locale), backend.getRoundingMode(locale)); // division
+                        } else return factor;
+                    }
                 }
 
-                return number;
-            }
-        }.parse();
+                BigDecimal parseFactor() throws ParseException, ArithmeticException {
+                    if (eat('+')) return parseFactor(); // unary plus
+                    if (eat('-')) return parseFactor().negate(); // unary minus
+
+                    BigDecimal number;
+                    int startPos = this.pos;
+                    if (eat('(')) { // parentheses
+                        number = parseExpression();
+                        if (!eat(')')) throw new ParseException("Missing ')'", pos);
+                    } else if (NUMBER_CHARS.indexOf(ch) >= 0) {
+                        while (NUMBER_CHARS.indexOf(ch) >= 0) nextChar();
+                        number = backend.parse(str.substring(startPos, pos), locale);
+                    } else {
+                        throw new ParseException("Unexpected: " + (char)ch, pos);
+                    }
+
+                    if (eat('^')) { // exponentiation
+                        BigDecimal exponent = parseFactor();
+                        if (exponent.scale() <= 0)
+                            return number.pow(exponent.intValue());
+                        if (number.compareTo(BigDecimal.valueOf(number.doubleValue())) == 0) {
+                            double power = Math.pow(number.doubleValue(), exponent.doubleValue());
+                            if (!Double.isFinite(power)) throw new ArithmeticException("Not a number: " + number + "^" + exponent); // e.g. roots of negative numbers
+                            return BigDecimal.valueOf(power);
+                        }
+                        throw new ParseException("Exponentiation on large numbers is not available for exponents with decimals like " + exponent.toString(), pos);    
+                        //if necessary this could be implemented using Cornell Universities implementation of core math functionalities https://arxiv.org/src/0908.3030v3/anc
+                    }
+
+                    return number;
+                }
+            }.parse();
+            success = true;
+            return result;
+        } finally {
+            event.commitIfEnabled(locale, null, str.length(), success);
+        }
     }
 
     @Override
@@ -413,6 +615,9 @@ public class MoneyField extends CustomField<MonetaryAmount> {
      * @param currencyCode the ISO-4217 three letter currency code.
      */
     public void setCurrency(String currencyCode) {
+        if (Objects.equals(currencyCode, currency.getValue())) {
+            return; //neither the currency nor its symbol in the amount need to be re-sent
+        }
         currency.setValue(currencyCode);
         if (!currency.isVisible()) {
             showCurrencyInAmount(true);
@@ -423,11 +628,63 @@ public class MoneyField extends CustomField<MonetaryAmount> {
      * Shows currency symbols as prefix in amount field.
      */
     private void showCurrencyInAmount(boolean show) {
-        if (show && currency.getValue() != null) {
-            amount.setPrefixComponent(new Div(new Text(Currency.getInstance(currency.getValue()).getSymbol(getLocale()))));
-        } else {
-            amount.setPrefixComponent(null);
+        showCurrencySymbolInAmount(show && currency.getValue() != null ? MoneyFormatBackend.getDefault().getCurrencySymbol(currency.getValue(), getLocale()) : null);
+    }
+
+    /**
+     * Shows the given currency symbol as prefix in amount field, unless it is already shown.
+     *
+     * @param currencySymbol the symbol to show or {@code null} to show none
+     */
+    private void showCurrencySymbolInAmount(String currencySymbol) {
+        if (Objects.equals(currencySymbol, shownCurrencySymbol)) {
+            return;
+        }
+        shownCurrencySymbol = currencySymbol;
+        amount.setPrefixComponent(currencySymbol == null ? null : new Div(new Text(currencySymbol)));
+    }
+
+    /**
+     * Reformats the amount and currency symbol according to the new locale. All {@code MoneyField}s of a {@code UI} are reformatted in the
+     * same round trip, sharing the formatter and currency symbols of the new locale.
+     *
+     * @param event the locale change event
+     */
+    @Override
+    public void localeChange(LocaleChangeEvent event) {
+        LocaleChangeBatch batch = LocaleChangeBatch.of(event.getUI(), event.getLocale());
+        MonetaryAmount monetaryAmount = getValue();
+        if (monetaryAmount != null) {
+            setSanitizedAmount(batch.formatAmount(monetaryAmount.getNumber()));
+        }
+        if (!currency.isVisible() && currency.getValue() != null) {
+            showCurrencySymbolInAmount(batch.currencySymbol(currency.getValue()));
+        }
+        if (calculable) {
+            amount.getElement().executeJs(INSTALL_EVALUATION_PREVIEW_JS, batch.evaluatorParameters());
+        }
+    }
+
+    /**
+     * @return the parameters of {@code installEvaluationPreview} in {@code moneyfield-eval.ts}, i.e. how the server parses, evaluates and
+     * rounds expressions for the given locale
+     */
+    static Serializable[] evaluatorParameters(Locale locale) {
+        MoneyFormatBackend backend = MoneyFormatBackend.getDefault();
+        return new Serializable[] {backend.getDecimalSeparator(locale), backend.getGroupingSeparators(locale), backend.getMaximumFractionDigits(locale),
+            fractionDigits(formatAmount(BigDecimal.ONE, locale)), fractionDigits(formatAmount(new BigDecimal("0.123456789"), locale)),
+            backend.getRoundingMode(locale).name()};
+    }
+
+    /**
+     * @return the number of trailing digits of the given formatted amount after its decimal separator
+     */
+    private static int fractionDigits(String formattedAmount) {
+        int digits = 0;
+        while (digits < formattedAmount.length() && Character.isDigit(formattedAmount.charAt(formattedAmount.length() - 1 - digits))) {
+            digits++;
         }
+        return digits == formattedAmount.length() ? 0 : digits;
     }
 
     /**
@@ -454,8 +711,62 @@ public class MoneyField extends CustomField<MonetaryAmount> {
      * @param amount the {@code Number} to set as amount.
      */
     public void setAmount(Number amount) {
-        //setAmount(NumberFormatter.withLocale(getLocale()).unit(com.ibm.icu.util.Currency.getInstance(currency.getValue())).format(amount).toString());
-        setAmount(NumberFormat.getCurrencyInstance(getLocale()).format(amount));
+        Locale locale = getLocale();
+        FormatEvent event = new FormatEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            String formattedAmount = formatAmount(amount, locale);
+            success = true;
+            setSanitizedAmount(formattedAmount);
+        } finally {
+            event.commitIfEnabled(locale, currency.getValue(), 0, success);
+        }
+    }
+
+    /**
+     * Formats the given amount the same way as {@link #setAmount(Number)} does. Does not access any component, so it can be called outside of the UI lock.
+     *
+     * @param amount the {@code Number} to format
+     * @param locale the {@code Locale} to format for
+     * @return the formatted amount excluding currency symbols
+     */
+    static String formatAmount(Number amount, Locale locale) {
+        return sanitizeAmount(MoneyFormatBackend.getDefault().format(toBigDecimal(amount), locale));
+    }
+
+    /**
+     * @return the exact value of the given number, e.g. of the {@code NumberValue} of a {@code MonetaryAmount}
+     */
+    static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof NumberValue) {
+            return ((NumberValue) number).numberValue(BigDecimal.class);
+        }
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        return BigDecimal.valueOf(number.doubleValue());
+    }
+
+    /**
+     * Sets the given value using an amount that has already been formatted by {@link #formatAmount(Number, Locale)} for the current locale.
+     *
+     * @param monetaryAmount the value to set
+     * @param formattedAmount the formatted amount of the value
+     */
+    void setFormattedValue(MonetaryAmount monetaryAmount, String formattedAmount) {
+        preformattedAmount = formattedAmount;
+        try {
+            setValue(monetaryAmount);
+        } finally {
+            preformattedAmount = null;
+        }
     }
 
     /**
@@ -464,7 +775,24 @@ public class MoneyField extends CustomField<MonetaryAmount> {
      * @param amount the {@code String} to set as amount.
      */
     public void setAmount(String amount) {
-        this.amount.setValue(amount.replaceAll("[^\\d.,\\h-]", "").replaceAll("^\\h", "").replaceAll("\\h+$", ""));
+        setSanitizedAmount(sanitizeAmount(amount));
+    }
+
+    /**
+     * @return the given formatted amount without currency symbols and surrounding spaces
+     */
+    static String sanitizeAmount(String amount) {
+        String numberChars = NON_AMOUNT_CHARS_PATTERN.matcher(amount).replaceAll("");
+        return TRAILING_SPACES_PATTERN.matcher(LEADING_SPACE_PATTERN.matcher(numberChars).replaceFirst("")).replaceFirst("");
+    }
+
+    /**
+     * Sets the already sanitized amount, unless it is unchanged.
+     */
+    private void setSanitizedAmount(String amount) {
+        if (!amount.equals(this.amount.getValue())) {
+            this.amount.setValue(amount);
+        }
     }
 
     /**
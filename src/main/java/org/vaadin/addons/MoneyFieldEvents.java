@@ -0,0 +1,82 @@
+package org.vaadin.addons;
+
+import java.util.Locale;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events emitted by {@code MoneyField}, so that latency spikes in always-on recordings can be attributed to parsing,
+ * evaluating and formatting of amounts. The events are enabled by default (without threshold) and can be configured in a {@code .jfc}
+ * file by their names (e.g. {@code org.vaadin.addons.MoneyField.Parse#threshold=1 ms}).
+ * <p>
+ * Events never carry amounts, only their context (locale, currency, length of the text) and whether the operation succeeded. When
+ * recording is disabled an event costs a (usually scalarized) allocation and a check of {@code shouldCommit()}.
+ */
+final class MoneyFieldEvents {
+
+    private MoneyFieldEvents() {
+    }
+
+    @Category({"Vaadin", "MoneyField"})
+    @StackTrace(false)
+    abstract static class MoneyFieldEvent extends Event {
+        @Label("Locale")
+        String locale;
+
+        @Label("Currency")
+        @Description("ISO-4217 three letter currency code")
+        String currency;
+
+        @Label("Input Length")
+        @Description("Number of characters of the parsed text, 0 if no text is parsed")
+        int inputLength;
+
+        @Label("Success")
+        boolean success;
+
+        /**
+         * Commits this event with the given context, if it is enabled and exceeds its threshold.
+         */
+        void commitIfEnabled(Locale locale, String currency, int inputLength, boolean success) {
+            if (shouldCommit()) {
+                this.locale = locale == null ? null : locale.toLanguageTag();
+                this.currency = currency;
+                this.inputLength = inputLength;
+                this.success = success;
+                commit();
+            }
+        }
+    }
+
+    @Name("org.vaadin.addons.MoneyField.Parse")
+    @Label("MoneyField Parse")
+    @Description("Generating the MonetaryAmount from the entered text including evaluation and formatting")
+    static final class ParseEvent extends MoneyFieldEvent {
+    }
+
+    @Name("org.vaadin.addons.MoneyField.Eval")
+    @Label("MoneyField Eval")
+    @Description("Evaluating an arithmetic expression entered in a calculable MoneyField")
+    static final class EvalEvent extends MoneyFieldEvent {
+    }
+
+    @Name("org.vaadin.addons.MoneyField.Format")
+    @Label("MoneyField Format")
+    @Description("Formatting an amount for showing it in a MoneyField")
+    static final class FormatEvent extends MoneyFieldEvent {
+    }
+
+    @Name("org.vaadin.addons.MoneyField.FormatterCreation")
+    @Label("MoneyField Formatter Creation")
+    @Description("Creating a NumberFormat for a locale")
+    static final class FormatterCreationEvent extends MoneyFieldEvent {
+        @Label("Style")
+        @Description("Style of the NumberFormat, i.e. currency or number")
+        String style;
+    }
+}
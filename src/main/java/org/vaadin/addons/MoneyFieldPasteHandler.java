@@ -0,0 +1,262 @@
+package org.vaadin.addons;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.shared.Registration;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
+import elemental.json.JsonValue;
+
+import org.vaadin.addons.MoneyField.ParsedAmount;
+
+/**
+ * Pastes tabular amounts (e.g. columns copied from a spreadsheet) into a grid of {@code MoneyField}s in a single server round trip.
+ * <p>
+ * When text containing tabs or line breaks is pasted into one of the fields, the whole clipboard block is sent to the server at once
+ * instead of being entered cell by cell. Each line is pasted into a row and each tab separated cell into a column of the grid, starting at
+ * the field pasted into. All cells are parsed in a single batch with the same rules as entered amounts (in parallel for large blocks) and
+ * then applied together, marking invalid cells as invalid. Cells outside of the grid and read-only or disabled fields are skipped.
+ * Pasting a single value is left to the field itself.
+ */
+public class MoneyFieldPasteHandler implements Serializable {
+    private static final long serialVersionUID = -1828733260640981027L;
+
+    /**
+     * Number of cells from which on they are parsed in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 256;
+
+    /**
+     * Number of cells parsed by a single task of a parallel parse.
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 64;
+
+    private static final String CELL_ATTRIBUTE = "data-moneyfield-cell";
+    private static final String PASTE_EVENT = "moneyfield-paste";
+    private static final String CELL_DETAIL = "event.detail.cell";
+    private static final String TEXT_DETAIL = "event.detail.text";
+    private static final Pattern CELL_PATTERN = Pattern.compile("(\\d{1,9}),(\\d{1,9})");
+    private static final Pattern LINE_BREAK_PATTERN = Pattern.compile("\\r?\\n");
+    private static final Pattern TAB_PATTERN = Pattern.compile("\\t");
+
+    //multi-cell pastes are taken from the field (found via its cell attribute) and re-dispatched as a single event of the container
+    private static final String INSTALL_PASTE_LISTENER_JS = "if (this.$moneyFieldPaste) return;"
+        + "this.$moneyFieldPaste = true;"
+        + "this.addEventListener('paste', e => {"
+        + "  const text = e.clipboardData ? e.clipboardData.getData('text/plain') : '';"
+        + "  if (!/[\\t\\n]/.test(text.replace(/[\\r\\n]+$/, ''))) return;"
+        + "  const cell = e.composedPath().find(node => node.hasAttribute && node.hasAttribute('" + CELL_ATTRIBUTE + "'));"
+        + "  if (!cell) return;"
+        + "  e.preventDefault();"
+        + "  this.dispatchEvent(new CustomEvent('" + PASTE_EVENT + "', {detail: {cell: cell.getAttribute('" + CELL_ATTRIBUTE + "'), text}}));"
+        + "});";
+
+    /**
+     * A single cell of a paste.
+     *
+     * @param field the {@code MoneyField} the cell has been pasted into
+     * @param row the row of the field in the grid
+     * @param column the column of the field in the grid
+     * @param text the pasted text
+     * @param valid if the pasted text is a valid amount
+     */
+    public record PastedCell(MoneyField field, int row, int column, String text, boolean valid) implements Serializable {
+    }
+
+    private final List<List<MoneyField>> cells;
+    private final transient Executor parseExecutor;
+    private final List<SerializableConsumer<List<PastedCell>>> pasteListeners = new ArrayList<>();
+
+    /**
+     * Creates a paste handler parsing large pastes with a small thread pool of its own (shared by all handlers).
+     *
+     * @param container the component containing all fields of the grid, e.g. a {@code Grid} with editable {@code MoneyField} columns
+     * @param cells the fields of the grid by row and column, rows may have different lengths and contain {@code null}s for cells without
+     * a {@code MoneyField}
+     */
+    public MoneyFieldPasteHandler(Component container, List<? extends List<MoneyField>> cells) {
+        this(container, cells, null);
+    }
+
+    /**
+     * @param container the component containing all fields of the grid, e.g. a {@code Grid} with editable {@code MoneyField} columns
+     * @param cells the fields of the grid by row and column, rows may have different lengths and contain {@code null}s for cells without
+     * a {@code MoneyField}
+     * @param parseExecutor executes the parsing of large pastes (of at least {@value #PARALLEL_THRESHOLD} cells) in parallel while the
+     * session is locked, or {@code null} for the thread pool shared by all handlers. It is not serialized, deserialized handlers use the
+     * shared thread pool.
+     */
+    public MoneyFieldPasteHandler(Component container, List<? extends List<MoneyField>> cells, Executor parseExecutor) {
+        this.parseExecutor = parseExecutor;
+        this.cells = new ArrayList<>(cells.size());
+        for (int row = 0; row < cells.size(); row++) {
+            List<MoneyField> fields = new ArrayList<>(cells.get(row));
+            for (int column = 0; column < fields.size(); column++) {
+                if (fields.get(column) != null) {
+                    fields.get(column).getElement().setAttribute(CELL_ATTRIBUTE, row + "," + column);
+                }
+            }
+            this.cells.add(fields);
+        }
+
+        container.getElement().addEventListener(PASTE_EVENT, event -> {
+            //the event data comes from the client, events not sent by the paste listener are ignored
+            String cell = stringOf(event.getEventData(), CELL_DETAIL);
+            String text = stringOf(event.getEventData(), TEXT_DETAIL);
+            Matcher position = cell == null ? null : CELL_PATTERN.matcher(cell);
+            if (position != null && position.matches() && text != null) {
+                paste(Integer.parseInt(position.group(1)), Integer.parseInt(position.group(2)), text);
+            }
+        }).addEventData(CELL_DETAIL).addEventData(TEXT_DETAIL);
+        container.addAttachListener(event -> container.getElement().executeJs(INSTALL_PASTE_LISTENER_JS));
+        if (container.isAttached()) {
+            container.getElement().executeJs(INSTALL_PASTE_LISTENER_JS);
+        }
+    }
+
+    /**
+     * Adds a listener notified after every paste with all pasted cells, e.g. for showing the number of invalid cells.
+     *
+     * @param listener the listener to add
+     * @return a handle that can be used for removing the listener
+     */
+    public Registration addPasteListener(SerializableConsumer<List<PastedCell>> listener) {
+        pasteListeners.add(listener);
+        return () -> pasteListeners.remove(listener);
+    }
+
+    /**
+     * Pastes the given tabular text into the grid, just as if it had been pasted by the user. Must be called with the UI lock held.
+     *
+     * @param row the row of the field to start at
+     * @param column the column of the field to start at
+     * @param text lines of tab separated cells
+     * @return the pasted cells, in order of rows and columns, empty if the start is outside of the grid or there is no text
+     */
+    public List<PastedCell> paste(int row, int column, String text) {
+        if (row < 0 || column < 0 || row >= cells.size() || text == null) {
+            return List.of();
+        }
+        List<MoneyField> fields = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        List<int[]> positions = new ArrayList<>();
+        //the text comes from the client, so it is only split as far as there are cells (the last part being the ignored remainder)
+        String[] lines = LINE_BREAK_PATTERN.split(withoutTrailingLineBreaks(text), cells.size() - row + 1);
+        for (int line = 0; line < lines.length && row + line < cells.size(); line++) {
+            List<MoneyField> fieldsOfRow = cells.get(row + line);
+            if (column >= fieldsOfRow.size()) {
+                continue;
+            }
+            String[] textsOfLine = TAB_PATTERN.split(lines[line], fieldsOfRow.size() - column + 1);
+            for (int i = 0; i < textsOfLine.length && column + i < fieldsOfRow.size(); i++) {
+                MoneyField field = fieldsOfRow.get(column + i);
+                if (field != null && field.isEnabled() && !field.isAmountReadOnly()) {
+                    fields.add(field);
+                    texts.add(textsOfLine[i].strip());
+                    positions.add(new int[] {row + line, column + i});
+                }
+            }
+        }
+
+        ParsedAmount[] parsedAmounts = parse(fields, texts);
+
+        List<PastedCell> pastedCells = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            boolean valid = fields.get(i).setPastedAmount(texts.get(i), parsedAmounts[i]);
+            pastedCells.add(new PastedCell(fields.get(i), positions.get(i)[0], positions.get(i)[1], texts.get(i), valid));
+        }
+        List<PastedCell> result = Collections.unmodifiableList(pastedCells);
+        new ArrayList<>(pasteListeners).forEach(listener -> listener.accept(result));
+        return result;
+    }
+
+    /**
+     * @return the text without the trailing line breaks of spreadsheet clipboards
+     */
+    private static String withoutTrailingLineBreaks(String text) {
+        int end = text.length();
+        while (end > 0 && (text.charAt(end - 1) == '\n' || text.charAt(end - 1) == '\r')) {
+            end--;
+        }
+        return text.substring(0, end);
+    }
+
+    private static String stringOf(JsonObject eventData, String key) {
+        JsonValue value = eventData.get(key);
+        return value != null && value.getType() == JsonType.STRING ? value.asString() : null;
+    }
+
+    /**
+     * Parses the texts for the given fields without accessing them, in parallel for large blocks. The calling thread parses the first
+     * chunk itself and waits for the others.
+     */
+    private ParsedAmount[] parse(List<MoneyField> fields, List<String> texts) {
+        Locale[] locales = fields.stream().map(MoneyField::getLocale).toArray(Locale[]::new);
+        boolean[] calculable = new boolean[fields.size()];
+        for (int i = 0; i < calculable.length; i++) {
+            calculable[i] = fields.get(i).isCalculable();
+        }
+
+        ParsedAmount[] parsedAmounts = new ParsedAmount[fields.size()];
+        if (parsedAmounts.length < PARALLEL_THRESHOLD) {
+            parse(texts, calculable, locales, parsedAmounts, 0, parsedAmounts.length);
+            return parsedAmounts;
+        }
+        Executor executor = parseExecutor != null ? parseExecutor : SharedParseExecutor.INSTANCE;
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = PARALLEL_CHUNK_SIZE; from < parsedAmounts.length; from += PARALLEL_CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(from + PARALLEL_CHUNK_SIZE, parsedAmounts.length);
+            chunks.add(CompletableFuture.runAsync(() -> parse(texts, calculable, locales, parsedAmounts, start, end), executor));
+        }
+        parse(texts, calculable, locales, parsedAmounts, 0, PARALLEL_CHUNK_SIZE);
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        return parsedAmounts;
+    }
+
+    private static void parse(List<String> texts, boolean[] calculable, Locale[] locales, ParsedAmount[] parsedAmounts, int from, int to) {
+        for (int i = from; i < to; i++) {
+            String text = texts.get(i);
+            parsedAmounts[i] = text.isBlank() ? null : MoneyField.parseAmount(text, calculable[i], locales[i]);
+        }
+    }
+
+    /**
+     * The thread pool shared by all handlers without an executor of their own: pastes are parsed while the session is locked, so they get
+     * a pool of their own (instead of competing with all other users of the common {@code ForkJoinPool}) that is bounded to half of the
+     * processors. Idle threads terminate.
+     */
+    private static final class SharedParseExecutor {
+        private static final ThreadPoolExecutor INSTANCE = create();
+
+        private SharedParseExecutor() {
+        }
+
+        private static ThreadPoolExecutor create() {
+            int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+                Thread thread = new Thread(task, "moneyfield-paste-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.vaadin.addons;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.money.MonetaryAmount;
+
+/**
+ * Coalesces high-frequency updates of {@code MoneyField}s from background threads (e.g. live prices pushed to a dashboard).
+ * <p>
+ * Instead of calling {@code ui.access(() -> field.setValue(value))} for every single update, call {@link #update(MoneyField, MonetaryAmount)}.
+ * Only the latest pending value per field is kept, amounts are formatted in the calling thread (i.e. outside of the UI lock) and all pending
+ * values are applied in a single {@code UI.access} - so there is at most one access (and thus push) per push cycle regardless of the number
+ * of updates. Unchanged amounts and currencies are not re-sent to the client.
+ */
+public class MoneyFieldPushUpdater implements Serializable {
+    private static final long serialVersionUID = 5617402258846011254L;
+
+    private record PendingUpdate(MonetaryAmount value, Locale locale, String formattedAmount) implements Serializable {
+    }
+
+    private final UI ui;
+    private final Map<MoneyField, PendingUpdate> pendingUpdates = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    /**
+     * The locale of the {@code UI}, read with the UI lock held (upon construction and every flush), so that background threads can format
+     * amounts without accessing the {@code UI}.
+     */
+    private volatile Locale locale;
+
+    /**
+     * Constructs an updater, must be called with the UI lock held (e.g. in the constructor of a view).
+     *
+     * @param ui the {@code UI} of all {@code MoneyField}s updated
+     */
+    public MoneyFieldPushUpdater(UI ui) {
+        this.ui = ui;
+        this.locale = ui.getLocale();
+    }
+
+    /**
+     * Sets the value of the given field with the next push cycle, replacing any value pending for the field. Can be called from any thread.
+     *
+     * @param field the {@code MoneyField} to update, must be attached to the {@code UI} of this updater
+     * @param value the new value of the field
+     * @throws UIDetachedException if the {@code UI} of this updater is no longer attached
+     */
+    public void update(MoneyField field, MonetaryAmount value) {
+        Locale locale = this.locale;
+        String formattedAmount = value == null ? null : MoneyField.formatAmount(value.getNumber(), locale);
+        pendingUpdates.put(field, new PendingUpdate(value, locale, formattedAmount));
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                ui.access(this::flush);
+            } catch (UIDetachedException e) {
+                //no flush will ever run, so that every further update fails as well instead of piling up
+                flushScheduled.set(false);
+                pendingUpdates.clear();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Applies the latest pending value of every field. Runs with the UI lock held.
+     */
+    private void flush() {
+        flushScheduled.set(false); //before draining, so that updates arriving from now on either get drained now or schedule another flush
+        locale = ui.getLocale();
+        for (MoneyField field : pendingUpdates.keySet()) {
+            PendingUpdate update = pendingUpdates.remove(field);
+            if (update == null) {
+                continue;
+            }
+            if (update.formattedAmount() != null && update.locale().equals(field.getLocale())) {
+                field.setFormattedValue(update.value(), update.formattedAmount());
+            } else {
+                field.setValue(update.value()); //locale changed since formatting, picked up by the next updates
+            }
+        }
+    }
+}
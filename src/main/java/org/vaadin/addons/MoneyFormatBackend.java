@@ -0,0 +1,98 @@
+package org.vaadin.addons;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+import java.util.Currency;
+import java.util.Locale;
+
+/**
+ * Formats and parses the amounts of {@code MoneyField}s. Implementations must be thread-safe, since amounts may be formatted outside of the
+ * UI lock (e.g. by {@code MoneyFieldPushUpdater}).
+ * <p>
+ * The following implementations are available:
+ * <ul>
+ * <li>{@code table}: uses tables generated from ICU4J at build time for the configured locales and currencies, falls back to {@code icu}
+ * (or {@code jdk} if ICU4J is not on the classpath) for everything else. This is the default.</li>
+ * <li>{@code icu}: based on ICU4J, supports all locales including variable-width groups (e.g. 1,23,456.79 for India).</li>
+ * <li>{@code jdk}: based on {@code java.text}, only supports fixed-width groups (e.g. 123,456.79) but does not need the ICU4J jar, so it can be
+ * excluded from deployments that only use such locales.</li>
+ * </ul>
+ * The default backend can be chosen by setting the system property {@value #BACKEND_PROPERTY} to {@code table}, {@code icu}, {@code jdk} or the fully
+ * qualified name of an implementation having a public no-arg constructor.
+ */
+public interface MoneyFormatBackend {
+
+    /**
+     * Name of the system property for choosing the default backend.
+     */
+    String BACKEND_PROPERTY = "moneyfield.formatBackend";
+
+    /**
+     * Formats the given amount according to the currency format of the given locale, i.e. with grouping and rounded to the fraction
+     * digits of the locales currency. Currency symbols contained in the result are removed by the {@code MoneyField}.
+     *
+     * @param amount the amount to format
+     * @param locale the locale to format for
+     * @return the formatted amount
+     */
+    String format(BigDecimal amount, Locale locale);
+
+    /**
+     * Parses a number (with optional grouping) of the given locale. Grouping separators are accepted leniently, i.e. at any position and
+     * as any kind of whitespace.
+     *
+     * @param text the text to parse
+     * @param locale the locale of the text
+     * @return the exact parsed number
+     * @throws ParseException if the text cannot be parsed
+     */
+    BigDecimal parse(String text, Locale locale) throws ParseException;
+
+    /**
+     * @param locale the locale of the number format
+     * @return the maximum number of fraction digits of (non-monetary) numbers, e.g. used for the results of divisions
+     */
+    int getMaximumFractionDigits(Locale locale);
+
+    /**
+     * @param locale the locale of the number format
+     * @return the rounding mode of numbers
+     */
+    RoundingMode getRoundingMode(Locale locale);
+
+    /**
+     * @param locale the locale of the number format
+     * @return the decimal separator numbers are parsed with
+     */
+    default String getDecimalSeparator(Locale locale) {
+        return String.valueOf(DecimalFormatSymbols.getInstance(locale).getDecimalSeparator());
+    }
+
+    /**
+     * @param locale the locale of the number and currency format
+     * @return all grouping separators of numbers and amounts, each a single character (whitespace is accepted as well if any of them is
+     * whitespace)
+     */
+    default String getGroupingSeparators(Locale locale) {
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        return MoneyFormatBackends.distinct(String.valueOf(symbols.getGroupingSeparator()), String.valueOf(symbols.getMonetaryGroupingSeparator()));
+    }
+
+    /**
+     * @param currencyCode the ISO-4217 three letter currency code
+     * @param locale the locale to get the symbol for
+     * @return the symbol of the currency in the given locale, e.g. "€" for EUR or "US$" for USD in Canada
+     */
+    default String getCurrencySymbol(String currencyCode, Locale locale) {
+        return Currency.getInstance(currencyCode).getSymbol(locale);
+    }
+
+    /**
+     * @return the backend used by all {@code MoneyField}s
+     */
+    static MoneyFormatBackend getDefault() {
+        return MoneyFormatBackends.DEFAULT;
+    }
+}
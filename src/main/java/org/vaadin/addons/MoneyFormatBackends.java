@@ -0,0 +1,63 @@
+package org.vaadin.addons;
+
+/**
+ * Selects the default {@code MoneyFormatBackend}.
+ */
+final class MoneyFormatBackends {
+
+    static final MoneyFormatBackend DEFAULT = select(System.getProperty(MoneyFormatBackend.BACKEND_PROPERTY));
+
+    private MoneyFormatBackends() {
+    }
+
+    /**
+     * @param name {@code table}, {@code icu}, {@code jdk}, the fully qualified name of a {@code MoneyFormatBackend} or {@code null} for
+     *             automatic selection (i.e. {@code table})
+     */
+    static MoneyFormatBackend select(String name) {
+        if (name == null || name.isBlank()) {
+            return new TableMoneyFormatBackend(untabulated());
+        }
+        switch (name.trim()) {
+            case "table":
+                return new TableMoneyFormatBackend(untabulated());
+            case "icu":
+                if (!isIcuAvailable()) {
+                    throw new IllegalStateException(MoneyFormatBackend.BACKEND_PROPERTY + " 'icu' needs com.ibm.icu:icu4j on the classpath");
+                }
+                return new IcuMoneyFormatBackend();
+            case "jdk":
+                return new JdkMoneyFormatBackend();
+            default:
+                try {
+                    return (MoneyFormatBackend) Class.forName(name.trim()).getConstructor().newInstance();
+                } catch (ReflectiveOperationException | ClassCastException e) {
+                    throw new IllegalStateException("Cannot instantiate " + MoneyFormatBackend.BACKEND_PROPERTY + " '" + name + "'", e);
+                }
+        }
+    }
+
+    /**
+     * @return the ICU4J backend if ICU4J is on the classpath, otherwise the {@code java.text} backend
+     */
+    static MoneyFormatBackend untabulated() {
+        return isIcuAvailable() ? new IcuMoneyFormatBackend() : new JdkMoneyFormatBackend();
+    }
+
+    /**
+     * @return the characters of the given separators, without duplicates
+     */
+    static String distinct(String... separators) {
+        return String.join("", separators).chars().distinct()
+            .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append).toString();
+    }
+
+    private static boolean isIcuAvailable() {
+        try {
+            Class.forName("com.ibm.icu.text.NumberFormat", false, MoneyFormatBackends.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
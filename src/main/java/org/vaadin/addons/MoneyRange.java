@@ -0,0 +1,93 @@
+package org.vaadin.addons;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.money.MonetaryException;
+
+import org.vaadin.addons.MoneyField.ParsedAmount;
+
+/**
+ * An inclusive range of amounts, e.g. entered into the filter of a {@code Crud} column, that data providers can push down to their query
+ * as a range of keys via {@link MonetaryAmountKeys#keyRangeOf(MoneyRange)}.
+ *
+ * @param currencyCode the ISO-4217 three letter currency code of the bounds or {@code null} for the reference currency of the keys
+ * @param min the lower bound or {@code null} if there is none
+ * @param max the upper bound or {@code null} if there is none
+ */
+public record MoneyRange(String currencyCode, BigDecimal min, BigDecimal max) implements Serializable {
+    private static final String RANGE_SEPARATOR = "..";
+    private static final Pattern CURRENCY_CODE_PATTERN = Pattern.compile("^[A-Za-z]{3}(?![A-Za-z])|(?<![A-Za-z])[A-Za-z]{3}$");
+
+    /**
+     * Parses a range like {@code 10..20}, {@code 10..}, {@code ..20} or a single amount {@code 15}, optionally with a leading or trailing
+     * currency code (e.g. {@code EUR 1.000..2.000}). The amounts are parsed the same way as entered into a {@code MoneyField}.
+     *
+     * @param text the text to parse
+     * @param locale the {@code Locale} of the amounts
+     * @return the parsed range
+     * @throws IllegalArgumentException if the text is no valid range
+     */
+    public static MoneyRange parse(String text, Locale locale) {
+        String amounts = text.strip();
+        String currencyCode = null;
+        Matcher currency = CURRENCY_CODE_PATTERN.matcher(amounts);
+        if (currency.find()) {
+            currencyCode = currency.group().toUpperCase(Locale.ROOT);
+            amounts = (amounts.substring(0, currency.start()) + amounts.substring(currency.end())).strip();
+            try {
+                CurrencyUnits.of(currencyCode);
+            } catch (MonetaryException e) {
+                throw new IllegalArgumentException("Unknown currency '" + currencyCode + "'", e);
+            }
+        }
+
+        int separator = amounts.indexOf(RANGE_SEPARATOR);
+        if (separator < 0) {
+            BigDecimal amount = parseBound(amounts, locale);
+            if (amount == null && currencyCode == null) {
+                throw new IllegalArgumentException("Empty range");
+            }
+            return new MoneyRange(currencyCode, amount, amount);
+        }
+        return new MoneyRange(currencyCode, parseBound(amounts.substring(0, separator), locale),
+            parseBound(amounts.substring(separator + RANGE_SEPARATOR.length()), locale));
+    }
+
+    private static BigDecimal parseBound(String text, Locale locale) {
+        if (text.isBlank()) {
+            return null;
+        }
+        ParsedAmount parsedAmount = MoneyField.parseAmount(text.strip(), false, locale);
+        if (parsedAmount == null) {
+            throw new IllegalArgumentException("Invalid amount '" + text.strip() + "'");
+        }
+        return parsedAmount.number();
+    }
+
+    /**
+     * Translates the constraint of a money column of a {@code CrudFilter} (or any other property filter) into a range. Constraints that
+     * cannot be parsed (e.g. while the user is still typing) are ignored.
+     *
+     * @param constraints the constraints by property, e.g. {@code CrudFilter.getConstraints()}
+     * @param property the property of the {@code MonetaryAmount}
+     * @param locale the {@code Locale} of the amounts
+     * @return the range of the property or an empty {@code Optional} if there is no (valid) constraint
+     */
+    public static Optional<MoneyRange> of(Map<String, String> constraints, String property, Locale locale) {
+        String constraint = constraints.get(property);
+        if (constraint == null || constraint.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(parse(constraint, locale));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.vaadin.addons;
+
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.shared.Registration;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.Money;
+
+/**
+ * Read-only component showing the running totals (one per currency) of any number of registered {@code MoneyField}s, e.g. of invoice lines.
+ * <p>
+ * The totals are maintained incrementally: upon a value change of a registered field only the difference between its old and new value is
+ * applied, so an edit costs O(1) regardless of the number of registered fields. Each total is shown in a read-only {@code MoneyField}, i.e.
+ * formatted the very same way.
+ */
+public class MoneyTotalField extends Div {
+    private static final long serialVersionUID = 3169240911519330475L;
+
+    /**
+     * The running total of a single currency.
+     */
+    private static final class Total implements Serializable {
+        private static final long serialVersionUID = -6004836359727286442L;
+
+        private final CurrencyUnit currency;
+        private final MoneyField field;
+        private BigDecimal sum = BigDecimal.ZERO;
+        private int count;
+
+        private Total(CurrencyUnit currency) {
+            this.currency = currency;
+            this.field = new MoneyField((MonetaryAmount) null, List.of(currency.getCurrencyCode()), false);
+            this.field.setReadOnly(true);
+        }
+    }
+
+    /**
+     * A registered field and its value currently included in the totals.
+     */
+    private static final class RegisteredField implements Serializable {
+        private static final long serialVersionUID = 2470135126397045846L;
+
+        private MonetaryAmount countedValue;
+        private Registration valueChangeRegistration;
+    }
+
+    private final Map<String, Total> totals = new LinkedHashMap<>();
+    private final Map<MoneyField, RegisteredField> registeredFields = new HashMap<>();
+    private String label;
+
+    /**
+     * Constructs an empty {@code MoneyTotalField}.
+     */
+    public MoneyTotalField() {
+        this(null);
+    }
+
+    /**
+     * Constructs an empty {@code MoneyTotalField} with the given label.
+     *
+     * @param label the text to set as the label
+     */
+    public MoneyTotalField(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Adds the value of the given field to the totals and keeps the totals up to date upon every value change of the field.
+     *
+     * @param field the {@code MoneyField} to sum up
+     * @return a handle that can be used for removing the field (and its value) from the totals
+     * @throws IllegalArgumentException if the field is already registered
+     */
+    public Registration register(MoneyField field) {
+        if (registeredFields.containsKey(field)) {
+            throw new IllegalArgumentException("MoneyField is already registered");
+        }
+        RegisteredField registeredField = new RegisteredField();
+        registeredFields.put(field, registeredField);
+        registeredField.countedValue = field.getValue();
+        addToTotals(registeredField.countedValue);
+        registeredField.valueChangeRegistration = field.addValueChangeListener(event -> {
+            subtractFromTotals(registeredField.countedValue);
+            registeredField.countedValue = event.getValue();
+            addToTotals(registeredField.countedValue);
+        });
+        return () -> {
+            if (registeredFields.remove(field, registeredField)) { //only once, and not after the field has been registered again
+                registeredField.valueChangeRegistration.remove();
+                subtractFromTotals(registeredField.countedValue);
+            }
+        };
+    }
+
+    /**
+     * Gets the total of the given currency.
+     *
+     * @param currencyCode the ISO-4217 three letter currency code.
+     * @return the total or {@code null} if no registered field has a value in that currency
+     */
+    public MonetaryAmount getTotal(String currencyCode) {
+        Total total = totals.get(currencyCode);
+        return total == null ? null : total.field.getValue();
+    }
+
+    /**
+     * @return the totals of all currencies of the registered fields, in order of their first occurrence
+     */
+    public List<MonetaryAmount> getTotals() {
+        return totals.values().stream().map(total -> total.field.getValue()).collect(Collectors.toList());
+    }
+
+    /**
+     * Sets the label shown above the totals.
+     *
+     * @param label the text to set as the label
+     */
+    public void setLabel(String label) {
+        this.label = label;
+        updateLabels();
+    }
+
+    /**
+     * @return the label shown above the totals
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    private void addToTotals(MonetaryAmount amount) {
+        if (amount == null) {
+            return;
+        }
+        Total total = totals.get(amount.getCurrency().getCurrencyCode());
+        if (total == null) {
+            total = new Total(amount.getCurrency());
+            totals.put(amount.getCurrency().getCurrencyCode(), total);
+            add(total.field);
+            updateLabels();
+        }
+        total.count++;
+        total.sum = total.sum.add(amount.getNumber().numberValue(BigDecimal.class));
+        total.field.setValue(Money.of(total.sum, total.currency));
+    }
+
+    private void subtractFromTotals(MonetaryAmount amount) {
+        if (amount == null) {
+            return;
+        }
+        Total total = totals.get(amount.getCurrency().getCurrencyCode());
+        if (total == null) {
+            return;
+        }
+        if (--total.count == 0) {
+            totals.remove(amount.getCurrency().getCurrencyCode());
+            remove(total.field);
+            updateLabels();
+            return;
+        }
+        total.sum = total.sum.subtract(amount.getNumber().numberValue(BigDecimal.class));
+        total.field.setValue(Money.of(total.sum, total.currency));
+    }
+
+    /**
+     * Shows the label above the first total only. Only called when currencies are added or removed.
+     */
+    private void updateLabels() {
+        boolean first = true;
+        for (Total total : totals.values()) {
+            total.field.setLabel(first ? label : null);
+            first = false;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package org.vaadin.addons;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code MoneyFormatBackend} using compact, immutable format tables generated at build time from ICU4J for a configured set of locales and
+ * currencies (see the properties {@code moneyfield.tables.locales} and {@code moneyfield.tables.currencies} in pom.xml). So the first use of
+ * these locales needs neither ICU4J resource bundles nor formatter creation. Anything not covered by the tables (other locales, other
+ * currencies, unusual input) is delegated to a fallback backend.
+ */
+public class TableMoneyFormatBackend implements MoneyFormatBackend {
+
+    /**
+     * The format table of a single locale.
+     *
+     * @param decimalSeparator the monetary decimal separator
+     * @param groupingSeparator the monetary grouping separator
+     * @param primaryGroupingSize the size of the rightmost group, 0 if no grouping is used
+     * @param secondaryGroupingSize the size of all other groups (e.g. 2 for India)
+     * @param minimumGroupingDigits the minimum number of digits left of the rightmost group for grouping to be used (e.g. 2 for Poland)
+     * @param minimumFractionDigits the minimum fraction digits of amounts
+     * @param maximumFractionDigits the maximum fraction digits of amounts
+     * @param roundingMode the rounding mode of amounts and numbers
+     * @param positivePrefix the text before positive amounts (including the currency symbol of the locale)
+     * @param positiveSuffix the text after positive amounts (including the currency symbol of the locale)
+     * @param negativePrefix the text before negative amounts (including the currency symbol of the locale)
+     * @param negativeSuffix the text after negative amounts (including the currency symbol of the locale)
+     * @param numberDecimalSeparator the decimal separator of numbers
+     * @param numberGroupingSeparator the grouping separator of numbers
+     * @param minusSign the minus sign of numbers
+     * @param numberMaximumFractionDigits the maximum fraction digits of numbers
+     * @param currencySymbols the symbols of the configured currencies by their ISO-4217 three letter currency codes
+     */
+    record LocaleFormat(String decimalSeparator, String groupingSeparator, int primaryGroupingSize, int secondaryGroupingSize,
+            int minimumGroupingDigits, int minimumFractionDigits, int maximumFractionDigits, RoundingMode roundingMode,
+            String positivePrefix, String positiveSuffix, String negativePrefix, String negativeSuffix,
+            String numberDecimalSeparator, String numberGroupingSeparator, String minusSign, int numberMaximumFractionDigits,
+            Map<String, String> currencySymbols) {
+
+        String format(BigDecimal amount) {
+            BigDecimal rounded = amount.setScale(maximumFractionDigits, roundingMode);
+            if (minimumFractionDigits < maximumFractionDigits) {
+                rounded = rounded.stripTrailingZeros();
+                if (rounded.scale() < minimumFractionDigits) {
+                    rounded = rounded.setScale(minimumFractionDigits);
+                }
+            }
+            String digits = rounded.abs().toPlainString();
+            int integerDigits = digits.indexOf('.') < 0 ? digits.length() : digits.indexOf('.');
+            boolean grouping = primaryGroupingSize > 0 && integerDigits >= primaryGroupingSize + minimumGroupingDigits;
+
+            StringBuilder formatted = new StringBuilder(digits.length() + 8).append(amount.signum() < 0 ? negativePrefix : positivePrefix);
+            for (int i = 0; i < integerDigits; i++) {
+                formatted.append(digits.charAt(i));
+                int remaining = integerDigits - i - 1;
+                if (grouping && remaining > 0 && (remaining == primaryGroupingSize
+                        || remaining > primaryGroupingSize && (remaining - primaryGroupingSize) % secondaryGroupingSize == 0)) {
+                    formatted.append(groupingSeparator);
+                }
+            }
+            if (integerDigits < digits.length()) {
+                formatted.append(decimalSeparator).append(digits, integerDigits + 1, digits.length());
+            }
+            return formatted.append(amount.signum() < 0 ? negativeSuffix : positiveSuffix).toString();
+        }
+
+        /**
+         * Parses plain numbers with optional sign, grouping and decimal separator.
+         *
+         * @return the parsed number or {@code null} if the text is anything else (and should be parsed by the fallback backend)
+         */
+        BigDecimal parse(String text) {
+            boolean spaceGrouping = isSpace(numberGroupingSeparator.charAt(0)) || isSpace(groupingSeparator.charAt(0));
+            StringBuilder number = new StringBuilder(text.length());
+            int i = 0;
+            while (i < text.length() && isSpace(text.charAt(i))) i++;
+            if (text.startsWith(minusSign, i) || text.startsWith("-", i)) {
+                number.append('-');
+                i += text.startsWith(minusSign, i) ? minusSign.length() : 1;
+            } else if (text.startsWith("+", i)) {
+                i++;
+            }
+
+            boolean fraction = false;
+            boolean digits = false;
+            while (i < text.length()) {
+                char ch = text.charAt(i);
+                if (ch >= '0' && ch <= '9') {
+                    number.append(ch);
+                    digits = true;
+                    i++;
+                } else if (text.startsWith(numberDecimalSeparator, i) && !fraction) {
+                    number.append('.');
+                    fraction = true;
+                    i += numberDecimalSeparator.length();
+                } else if (!fraction && digits && (text.startsWith(numberGroupingSeparator, i) || text.startsWith(groupingSeparator, i))) {
+                    i += text.startsWith(numberGroupingSeparator, i) ? numberGroupingSeparator.length() : groupingSeparator.length();
+                } else if (!fraction && digits && spaceGrouping && isSpace(ch)) {
+                    i++;
+                } else if (isSpace(ch) && text.substring(i).isBlank()) {
+                    break; //trailing spaces
+                } else {
+                    return null;
+                }
+            }
+            return digits ? new BigDecimal(number.toString()) : null;
+        }
+
+        private static boolean isSpace(char ch) {
+            return Character.isWhitespace(ch) || Character.isSpaceChar(ch);
+        }
+    }
+
+    private final Map<Locale, LocaleFormat> localeFormats;
+    private final MoneyFormatBackend fallback;
+
+    /**
+     * Constructs a {@code TableMoneyFormatBackend} falling back to ICU4J if it is on the classpath, otherwise to {@code java.text}.
+     */
+    public TableMoneyFormatBackend() {
+        this(MoneyFormatBackends.untabulated());
+    }
+
+    /**
+     * @param fallback the backend for everything not covered by the tables
+     */
+    public TableMoneyFormatBackend(MoneyFormatBackend fallback) {
+        this(GeneratedMoneyFormatTables.LOCALE_FORMATS, fallback);
+    }
+
+    TableMoneyFormatBackend(Map<Locale, LocaleFormat> localeFormats, MoneyFormatBackend fallback) {
+        this.localeFormats = localeFormats;
+        this.fallback = fallback;
+    }
+
+    /**
+     * @return the locales covered by the tables
+     */
+    public Set<Locale> getLocales() {
+        return localeFormats.keySet();
+    }
+
+    @Override
+    public String format(BigDecimal amount, Locale locale) {
+        LocaleFormat localeFormat = localeFormats.get(locale);
+        return localeFormat != null ? localeFormat.format(amount) : fallback.format(amount, locale);
+    }
+
+    @Override
+    public BigDecimal parse(String text, Locale locale) throws ParseException {
+        LocaleFormat localeFormat = localeFormats.get(locale);
+        BigDecimal number = localeFormat != null ? localeFormat.parse(text) : null;
+        return number != null ? number : fallback.parse(text, locale);
+    }
+
+    @Override
+    public int getMaximumFractionDigits(Locale locale) {
+        LocaleFormat localeFormat = localeFormats.get(locale);
+        return localeFormat != null ? localeFormat.numberMaximumFractionDigits() : fallback.getMaximumFractionDigits(locale);
+    }
+
+    @Override
+    public RoundingMode getRoundingMode(Locale locale) {
+        LocaleFormat localeFormat = localeFormats.get(locale);
+        return localeFormat != null ? localeFormat.roundingMode() : fallback.getRoundingMode(locale);
+    }
+
+    @Override
+    public String getDecimalSeparator(Locale locale) {
+        LocaleFormat localeFormat = localeFormats.get(locale);
+        return localeFormat != null ? localeFormat.numberDecimalSeparator() : fallback.getDecimalSeparator(locale);
+    }
+
+    @Override
+    public String getGroupingSeparators(Locale locale) {
+        LocaleFormat localeFormat = localeFormats.get(locale);
+        return localeFormat != null ? MoneyFormatBackends.distinct(localeFormat.numberGroupingSeparator(), localeFormat.groupingSeparator())
+            : fallback.getGroupingSeparators(locale);
+    }
+
+    @Override
+    public String getCurrencySymbol(String currencyCode, Locale locale) {
+        LocaleFormat localeFormat = localeFormats.get(locale);
+        String symbol = localeFormat != null ? localeFormat.currencySymbols().get(currencyCode) : null;
+        return symbol != null ? symbol : fallback.getCurrencySymbol(currencyCode, locale);
+    }
+}
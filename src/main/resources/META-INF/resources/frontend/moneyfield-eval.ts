@@ -0,0 +1,386 @@
+/**
+ * Client-side preview for calculable MoneyFields: evaluates the entered expression while typing, with the same grammar, exact decimal
+ * arithmetic and rounding as MoneyField.eval on the server (BigDecimals including their scales, the same double arithmetic for
+ * exponentiation with decimal exponents), and shows the result as suffix of the amount. Nothing is sent to the server
+ * before the value is committed, the server then evaluates the expression again - this is only a preview.
+ *
+ * The conformance corpus src/test/resources/org/vaadin/addons/eval-conformance.tsv keeps both implementations in sync, it is run by
+ * MoneyFieldEvalConformanceTest and src/test/frontend/eval-conformance.mjs.
+ */
+
+/**
+ * Locale dependent parameters of the evaluation, computed by the server (see MoneyField.evaluatorParameters).
+ */
+export interface EvaluatorConfig {
+  /** decimal separator of numbers (of the server's MoneyFormatBackend, may be longer than one character) */
+  decimalSeparator: string;
+  /** all characters used as grouping separators of numbers and amounts (of the server's MoneyFormatBackend) */
+  groupingSeparators: string;
+  /** scale of the results of divisions (the maximum fraction digits of numbers) */
+  divisionScale: number;
+  /** minimum fraction digits of amounts */
+  minFractionDigits: number;
+  /** maximum fraction digits of amounts, results are rounded to these */
+  maxFractionDigits: number;
+  /** name of the java.math.RoundingMode of divisions and amounts */
+  roundingMode: string;
+}
+
+/**
+ * Exact decimal number unscaled * 10^-scale, i.e. the same representation (including the scale) as java.math.BigDecimal.
+ */
+export interface Decimal {
+  unscaled: bigint;
+  scale: number;
+}
+
+class EvaluationError extends Error {}
+
+// same patterns as in MoneyField, with Java's \h (horizontal whitespace) and \s (ASCII whitespace) spelled out
+const H_CHARS = ' \\t\u00a0\u1680\u180e\u2000-\u200a\u202f\u205f\u3000';
+const H = `[${H_CHARS}]`;
+const S = '[ \\t\\n\\x0B\\f\\r]';
+const AMOUNT = `\\d{1,4}([.,${H_CHARS}]?\\d{2,4})*([.,]\\d+)?`;
+const CALCULABLE_AMOUNT_PATTERN = new RegExp(
+  `^${S}*\\(*([-+]?(${AMOUNT})?)(${H}*([-+*/^]${H}*\\(*(${H}*[-+]?${AMOUNT})${H}*\\)*${H}*)*)$`);
+const NUMBER_CHARS = '0123456789., \u00a0';
+const END = 0xffff; // like (char) -1 in Java
+const MAX_EXPONENT = 9999; // the server allows up to 999999999, which would block the browser while typing
+
+function isSpace(ch: string): boolean {
+  return /\s/.test(ch);
+}
+
+function pow10(exponent: number): bigint {
+  return 10n ** BigInt(exponent);
+}
+
+function compare(a: Decimal, b: Decimal): number {
+  const scale = Math.max(a.scale, b.scale);
+  const x = a.unscaled * pow10(scale - a.scale);
+  const y = b.unscaled * pow10(scale - b.scale);
+  return x < y ? -1 : x > y ? 1 : 0;
+}
+
+function add(a: Decimal, b: Decimal): Decimal {
+  const scale = Math.max(a.scale, b.scale);
+  return { unscaled: a.unscaled * pow10(scale - a.scale) + b.unscaled * pow10(scale - b.scale), scale };
+}
+
+function negate(a: Decimal): Decimal {
+  return { unscaled: -a.unscaled, scale: a.scale };
+}
+
+function multiply(a: Decimal, b: Decimal): Decimal {
+  return { unscaled: a.unscaled * b.unscaled, scale: a.scale + b.scale };
+}
+
+/**
+ * @return num / den rounded with the given java.math.RoundingMode
+ */
+function divideRounded(num: bigint, den: bigint, roundingMode: string): bigint {
+  if (den < 0n) {
+    num = -num;
+    den = -den;
+  }
+  const quotient = num / den; // truncates towards zero
+  const remainder = num - quotient * den;
+  if (remainder === 0n) {
+    return quotient;
+  }
+  const sign = num < 0n ? -1n : 1n;
+  const twiceRemainder = remainder * 2n * sign;
+  let up: boolean;
+  switch (roundingMode) {
+    case 'UP': up = true; break;
+    case 'DOWN': up = false; break;
+    case 'CEILING': up = sign > 0n; break;
+    case 'FLOOR': up = sign < 0n; break;
+    case 'HALF_UP': up = twiceRemainder >= den; break;
+    case 'HALF_DOWN': up = twiceRemainder > den; break;
+    case 'HALF_EVEN': up = twiceRemainder > den || (twiceRemainder === den && (quotient & 1n) !== 0n); break;
+    default: throw new EvaluationError(`Rounding necessary: ${roundingMode}`);
+  }
+  return up ? quotient + sign : quotient;
+}
+
+/**
+ * Same as BigDecimal.divide(divisor, scale, roundingMode).
+ */
+function divide(a: Decimal, b: Decimal, scale: number, roundingMode: string): Decimal {
+  if (b.unscaled === 0n) {
+    throw new EvaluationError('Division by zero');
+  }
+  const exponent = scale + b.scale - a.scale;
+  const num = exponent >= 0 ? a.unscaled * pow10(exponent) : a.unscaled;
+  const den = exponent >= 0 ? b.unscaled : b.unscaled * pow10(-exponent);
+  return { unscaled: divideRounded(num, den, roundingMode), scale };
+}
+
+/**
+ * Same as BigDecimal.setScale(scale, roundingMode).
+ */
+export function setScale(a: Decimal, scale: number, roundingMode = 'UNNECESSARY'): Decimal {
+  if (scale >= a.scale) {
+    return { unscaled: a.unscaled * pow10(scale - a.scale), scale };
+  }
+  return { unscaled: divideRounded(a.unscaled, pow10(a.scale - scale), roundingMode), scale };
+}
+
+/**
+ * Same as BigDecimal.stripTrailingZeros().
+ */
+function stripTrailingZeros(a: Decimal): Decimal {
+  if (a.unscaled === 0n) {
+    return { unscaled: 0n, scale: 0 };
+  }
+  let { unscaled, scale } = a;
+  while (unscaled % 10n === 0n) {
+    unscaled /= 10n;
+    scale--;
+  }
+  return { unscaled, scale };
+}
+
+export function toPlainString(a: Decimal): string {
+  const negative = a.unscaled < 0n;
+  let digits = (negative ? -a.unscaled : a.unscaled).toString();
+  if (a.scale < 0) {
+    digits += '0'.repeat(-a.scale);
+  } else if (a.scale > 0) {
+    digits = digits.padStart(a.scale + 1, '0');
+    digits = `${digits.slice(0, -a.scale)}.${digits.slice(-a.scale)}`;
+  }
+  return (negative ? '-' : '') + digits;
+}
+
+/**
+ * Same as new BigDecimal(text) for plain (non-exponential) numbers.
+ */
+function parsePlain(text: string): Decimal {
+  const negative = text.startsWith('-');
+  const [integer, fraction = ''] = (negative ? text.substring(1) : text).split('.');
+  const unscaled = BigInt((integer || '0') + fraction);
+  return { unscaled: negative ? -unscaled : unscaled, scale: fraction.length };
+}
+
+/**
+ * Same as BigDecimal.valueOf(double), i.e. with the scale of Double.toString.
+ */
+function fromDouble(value: number): Decimal {
+  if (!Number.isFinite(value)) {
+    throw new EvaluationError('Not a number');
+  }
+  const abs = Math.abs(value);
+  if (abs === 0 || (abs >= 1e-3 && abs < 1e7)) {
+    const plain = String(value);
+    return parsePlain(plain.includes('.') ? plain : `${plain}.0`);
+  }
+  const [mantissa, exponent] = value.toExponential().split('e');
+  const digits = mantissa.replace('.', '');
+  const unsignedDigits = digits.replace('-', '');
+  const paddedDigits = unsignedDigits.length === 1 ? `${digits}0` : digits;
+  return { unscaled: BigInt(paddedDigits), scale: Math.max(unsignedDigits.length, 2) - 1 - Number(exponent) };
+}
+
+function toDouble(a: Decimal): number {
+  return Number(toPlainString(a));
+}
+
+/**
+ * Parses a number of the expression, leniently like the format tables of the server: optional grouping separators (and spaces if
+ * grouping uses spaces) before the decimal separator, surrounding spaces.
+ */
+function parseNumber(text: string, config: EvaluatorConfig): Decimal {
+  const spaceGrouping = [...config.groupingSeparators].some(isSpace);
+  let number = '';
+  let fraction = false;
+  let digits = false;
+  let i = 0;
+  while (i < text.length && isSpace(text[i])) {
+    i++;
+  }
+  while (i < text.length) {
+    const ch = text[i];
+    if (ch >= '0' && ch <= '9') {
+      number += ch;
+      digits = true;
+    } else if (!fraction && text.startsWith(config.decimalSeparator, i)) {
+      number += '.';
+      fraction = true;
+      i += config.decimalSeparator.length;
+      continue;
+    } else if (!fraction && digits && (config.groupingSeparators.includes(ch) || (spaceGrouping && isSpace(ch)))) {
+      // grouping separator
+    } else if (isSpace(ch) && text.substring(i).trim() === '') {
+      break; // trailing spaces
+    } else {
+      throw new EvaluationError(`Unexpected: ${ch}`);
+    }
+    i++;
+  }
+  if (!digits) {
+    throw new EvaluationError(`Not a number: ${text}`);
+  }
+  return parsePlain(number);
+}
+
+/**
+ * Recursive descent parser with the same grammar and the same arithmetic as MoneyField.eval:
+ * expression = term | expression `+` term | expression `-` term
+ * term = factor | term `*` factor | term `/` factor
+ * factor = `+` factor | `-` factor | `(` expression `)` | factor `^` factor
+ */
+class Evaluator {
+  private pos = -1;
+  private ch = END;
+
+  constructor(private readonly str: string, private readonly config: EvaluatorConfig) {}
+
+  private nextChar(): void {
+    this.ch = ++this.pos < this.str.length ? this.str.charCodeAt(this.pos) : END;
+  }
+
+  private eat(charToEat: string): boolean {
+    while (this.ch === 32) this.nextChar();
+    if (this.ch === charToEat.charCodeAt(0)) {
+      this.nextChar();
+      return true;
+    }
+    return false;
+  }
+
+  evaluate(): Decimal {
+    this.nextChar();
+    const number = this.parseExpression();
+    if (this.pos < this.str.length) throw new EvaluationError(`Unexpected: ${String.fromCharCode(this.ch)}`);
+    return number;
+  }
+
+  private parseExpression(): Decimal {
+    let term = this.parseTerm();
+    for (;;) {
+      if (this.eat('+')) term = add(term, this.parseTerm());
+      else if (this.eat('-')) term = add(term, negate(this.parseTerm()));
+      else return term;
+    }
+  }
+
+  private parseTerm(): Decimal {
+    let factor = this.parseFactor();
+    for (;;) {
+      if (this.eat('*')) factor = multiply(factor, this.parseFactor());
+      else if (this.eat('/')) factor = divide(factor, this.parseFactor(), this.config.divisionScale, this.config.roundingMode);
+      else return factor;
+    }
+  }
+
+  private parseFactor(): Decimal {
+    if (this.eat('+')) return this.parseFactor();
+    if (this.eat('-')) return negate(this.parseFactor());
+
+    let number: Decimal;
+    const startPos = this.pos;
+    if (this.eat('(')) {
+      number = this.parseExpression();
+      if (!this.eat(')')) throw new EvaluationError("Missing ')'");
+    } else if (this.ch !== END && NUMBER_CHARS.includes(String.fromCharCode(this.ch))) {
+      while (this.ch !== END && NUMBER_CHARS.includes(String.fromCharCode(this.ch))) this.nextChar();
+      number = parseNumber(this.str.substring(startPos, this.pos), this.config);
+    } else {
+      throw new EvaluationError(`Unexpected: ${String.fromCharCode(this.ch)}`);
+    }
+
+    if (this.eat('^')) {
+      const exponent = this.parseFactor();
+      if (exponent.scale <= 0) {
+        const n = toDouble(exponent);
+        if (n < 0 || n > MAX_EXPONENT) throw new EvaluationError('Invalid exponent');
+        return { unscaled: number.unscaled ** BigInt(n), scale: number.scale * n };
+      }
+      if (compare(number, fromDouble(toDouble(number))) === 0) {
+        return fromDouble(Math.pow(toDouble(number), toDouble(exponent)));
+      }
+      throw new EvaluationError('Exponentiation on large numbers is not available for exponents with decimals');
+    }
+    return number;
+  }
+}
+
+/**
+ * Evaluates the given text like a calculable MoneyField does on the server, including rounding the result as the amount is shown
+ * (to the maximum fraction digits, without trailing zeros beyond the minimum fraction digits).
+ *
+ * @return the result or null if the text is no valid expression
+ */
+export function evaluate(text: string, config: EvaluatorConfig): Decimal | null {
+  if (text.trim() === '' || !CALCULABLE_AMOUNT_PATTERN.test(text)) {
+    return null;
+  }
+  try {
+    const rounded = setScale(new Evaluator(text, config).evaluate(), config.maxFractionDigits, config.roundingMode);
+    if (config.minFractionDigits >= config.maxFractionDigits) {
+      return rounded;
+    }
+    const stripped = stripTrailingZeros(rounded);
+    return stripped.scale < config.minFractionDigits ? setScale(stripped, config.minFractionDigits) : stripped;
+  } catch (e) {
+    if (e instanceof EvaluationError || e instanceof RangeError) {
+      return null;
+    }
+    throw e;
+  }
+}
+
+/**
+ * @return the result as shown in the preview, with the decimal separator of the locale (but without grouping)
+ */
+export function formatPreview(result: Decimal, config: EvaluatorConfig): string {
+  return toPlainString(result).replace('.', config.decimalSeparator);
+}
+
+const OPERATOR_AFTER_FIRST_CHAR = /.[-+*/^(]/;
+
+interface PreviewedField extends HTMLElement {
+  value: string;
+  $moneyFieldEvaluator?: EvaluatorConfig;
+}
+
+/**
+ * Installs the preview on the amount text field of a calculable MoneyField, or updates its config (e.g. upon a locale change).
+ */
+function installEvaluationPreview(
+  field: PreviewedField,
+  decimalSeparator: string,
+  groupingSeparators: string,
+  divisionScale: number,
+  minFractionDigits: number,
+  maxFractionDigits: number,
+  roundingMode: string
+): void {
+  const installed = field.$moneyFieldEvaluator !== undefined;
+  field.$moneyFieldEvaluator = { decimalSeparator, groupingSeparators, divisionScale, minFractionDigits, maxFractionDigits, roundingMode };
+  if (installed) {
+    return;
+  }
+
+  const preview = document.createElement('span');
+  preview.setAttribute('slot', 'suffix');
+  preview.setAttribute('aria-live', 'polite');
+  preview.className = 'moneyfield-preview';
+  preview.style.opacity = '0.6';
+  field.appendChild(preview);
+
+  const update = () => {
+    const text = field.value ?? '';
+    const result = OPERATOR_AFTER_FIRST_CHAR.test(text.trim()) ? evaluate(text, field.$moneyFieldEvaluator!) : null;
+    preview.textContent = result === null ? '' : `= ${formatPreview(result, field.$moneyFieldEvaluator!)}`;
+  };
+  field.addEventListener('input', update);
+  field.addEventListener('change', () => (preview.textContent = '')); // the server evaluates and shows the committed value
+}
+
+const w = window as any;
+w.Vaadin = w.Vaadin || {};
+w.Vaadin.Flow = w.Vaadin.Flow || {};
+w.Vaadin.Flow.moneyField = { installEvaluationPreview };
@@ -0,0 +1,59 @@
+// Evaluates the conformance corpus shared with MoneyField.eval (src/test/resources/org/vaadin/addons/eval-conformance.tsv) with the
+// client-side preview of calculable MoneyFields (moneyfield-eval.ts), the server side is MoneyFieldEvalConformanceTest.
+//
+// Needs the frontend dependencies (typescript), run from the project root (as done by .github/workflows/maven.yml):
+//   npm ci && node src/test/frontend/eval-conformance.mjs
+import { readFileSync } from 'node:fs';
+import { createRequire } from 'node:module';
+
+const root = new URL('../../../', import.meta.url);
+const ts = createRequire(new URL('package.json', root))('typescript');
+
+const source = readFileSync(new URL('src/main/resources/META-INF/resources/frontend/moneyfield-eval.ts', root), 'utf8');
+const { outputText } = ts.transpileModule(source, {
+  compilerOptions: { module: ts.ModuleKind.ESNext, target: ts.ScriptTarget.ES2020 }
+});
+globalThis.window = {};
+const { evaluate, toPlainString } = await import(`data:text/javascript;base64,${Buffer.from(outputText).toString('base64')}`);
+
+const normalize = (decimal) => (decimal.includes('.') ? decimal.replace(/0+$/, '').replace(/\.$/, '') : decimal);
+
+const configs = new Map();
+let passed = 0;
+const failures = [];
+const corpus = readFileSync(new URL('src/test/resources/org/vaadin/addons/eval-conformance.tsv', root), 'utf8');
+for (const line of corpus.split(/\r?\n/)) {
+  if (line.trim() === '' || line.startsWith('#')) {
+    continue;
+  }
+  const entry = line.replaceAll('\\u00a0', ' ').split('\t');
+  if (entry[0].startsWith('@')) {
+    const [locale, decimalSeparator, groupingSeparators, divisionScale, minFractionDigits, maxFractionDigits, roundingMode] = entry;
+    configs.set(locale.substring(1), {
+      decimalSeparator,
+      groupingSeparators,
+      divisionScale: Number(divisionScale),
+      minFractionDigits: Number(minFractionDigits),
+      maxFractionDigits: Number(maxFractionDigits),
+      roundingMode
+    });
+    continue;
+  }
+  const [locale, expression, expected] = entry;
+  const config = configs.get(locale);
+  if (!config) {
+    failures.push(`${locale} ${expression}: no parameters for ${locale}`);
+    continue;
+  }
+  const result = evaluate(expression, config);
+  const actual = result === null ? 'error' : normalize(toPlainString(result));
+  if (actual === normalize(expected)) {
+    passed++;
+  } else {
+    failures.push(`${locale} ${expression}: expected ${expected} but evaluated to ${actual}`);
+  }
+}
+
+failures.forEach((failure) => console.error(failure));
+console.log(`${passed} passed, ${failures.length} failed`);
+process.exitCode = failures.length > 0 ? 1 : 0;
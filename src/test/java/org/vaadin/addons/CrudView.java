@@ -10,12 +10,18 @@ import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.provider.AbstractBackEndDataProvider;
 import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.SortDirection;
 import com.vaadin.flow.router.Route;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.money.Monetary;
 import javax.money.MonetaryAmount;
 
 import org.javamoney.moneta.FastMoney;
@@ -66,6 +72,7 @@ public class CrudView extends VerticalLayout {
 
     // data
     private List<TestDto> database = new ArrayList<>();
+    private final MonetaryAmountKeys priceKeys = new MonetaryAmountKeys(Monetary.getCurrency("EUR"), Map.of("USD", new BigDecimal("0.9")));
 
     public CrudView() {
         crud = new Crud<>(TestDto.class, createEditor());
@@ -86,17 +93,35 @@ public class CrudView extends VerticalLayout {
 
             @Override
             protected Stream<TestDto> fetchFromBackEnd(Query<TestDto, CrudFilter> query) {
-                return database.stream();
+                return filteredAndSorted(query.getFilter()).stream().skip(query.getOffset()).limit(query.getLimit());
             }
 
             @Override
             protected int sizeInBackEnd(Query<TestDto, CrudFilter> query) {
-                return database.size();
+                return filteredAndSorted(query.getFilter()).size();
             }
         };
         this.crud.setDataProvider(dataProvider);
     }
 
+    /**
+     * Filters and sorts the prices by their keys, as a database would do with an indexed key column.
+     */
+    private List<TestDto> filteredAndSorted(Optional<CrudFilter> filter) {
+        List<TestDto> items = database;
+        if (filter.isPresent()) {
+            Optional<MoneyRange> priceRange = MoneyRange.of(filter.get().getConstraints(), "price", getLocale());
+            if (priceRange.isPresent()) {
+                items = items.stream().filter(priceKeys.filter(priceRange.get(), TestDto::getPrice)).collect(Collectors.toList());
+            }
+            SortDirection priceDirection = filter.get().getSortOrders().get("price");
+            if (priceDirection != null) {
+                items = priceKeys.sort(items, TestDto::getPrice, priceDirection);
+            }
+        }
+        return items;
+    }
+
     private void delete(TestDto item) {
         database.remove(item);
     }
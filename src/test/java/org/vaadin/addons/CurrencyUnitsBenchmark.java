@@ -0,0 +1,73 @@
+package org.vaadin.addons;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.Money;
+
+/**
+ * Compares the throughput of creating {@code Money} from currency codes resolved by {@code Monetary} on every call with creating it from
+ * the {@code CurrencyUnit}s cached by {@code CurrencyUnits}, with many threads contending, e.g.
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.vaadin.addons.CurrencyUnitsBenchmark -Dexec.args=64
+ * </pre>
+ */
+public class CurrencyUnitsBenchmark {
+    private static final String[] CURRENCY_CODES = {"EUR", "USD", "GBP", "CHF", "JPY", "INR"};
+    private static final BigDecimal[] AMOUNTS = {new BigDecimal("0.5"), new BigDecimal("-1234.57"), new BigDecimal("987654321.01")};
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 1_000_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors() * 4;
+
+        for (int i = 0; i < 2; i++) { //the first pass is warmup only
+            boolean warmup = i == 0;
+            measure("Money.of(number, code)", threads, warmup, (number, code) -> Money.of(number, code));
+            measure("Money.of(number, CurrencyUnits.of(code))", threads, warmup, (number, code) -> Money.of(number, CurrencyUnits.of(code)));
+        }
+    }
+
+    private static void measure(String name, int threads, boolean warmup, BiFunction<BigDecimal, String, MonetaryAmount> factory)
+            throws InterruptedException {
+        int rounds = (warmup ? WARMUP_ROUNDS : MEASURED_ROUNDS) / threads;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong checksum = new AtomicLong();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long sum = 0;
+                for (int i = offset; i < offset + rounds; i++) {
+                    sum += factory.apply(AMOUNTS[i % AMOUNTS.length], CURRENCY_CODES[i % CURRENCY_CODES.length]).signum();
+                }
+                checksum.addAndGet(sum);
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long nanos = System.nanoTime() - startNanos;
+        if (!warmup) {
+            System.out.printf("%-42s %3d threads: %,12.0f amounts/s (checksum %d)%n", name, threads, rounds * (double) threads / (nanos / 1e9),
+                checksum.get());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.vaadin.addons;
+
+import java.math.BigDecimal;
+
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.UnknownCurrencyException;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@code Converter}s between {@code MonetaryAmount}s and primitive minor units.
+ */
+public class MonetaryAmountConvertersTest {
+
+    @Test
+    void testMinorUnits() {
+        MonetaryAmountToMinorUnitsConverter converter = new MonetaryAmountToMinorUnitsConverter("EUR");
+
+        assertEquals(12345L, converter.convertToModel(Money.of(new BigDecimal("123.45"), "EUR"), null).getOrThrow(IllegalStateException::new));
+        assertEquals(-12346L, converter.convertToModel(FastMoney.of(new BigDecimal("-123.456"), "EUR"), null).getOrThrow(IllegalStateException::new));
+        assertEquals(Money.of(new BigDecimal("123.45"), "EUR"), converter.convertToPresentation(12345L, null));
+        assertTrue(converter.convertToModel(Money.of(1, "USD"), null).isError(), "amounts of other currencies must not be converted");
+
+        assertNull(converter.convertToModel(null, null).getOrThrow(IllegalStateException::new));
+        assertNull(converter.convertToPresentation(null, null));
+    }
+
+    @Test
+    void testMinorUnitsUseFractionDigitsOfCurrency() {
+        assertEquals(1235L, new MonetaryAmountToMinorUnitsConverter("JPY").convertToModel(Money.of(new BigDecimal("1234.5"), "JPY"), null)
+            .getOrThrow(IllegalStateException::new), "JPY has no minor units, rounding is half-even");
+        assertEquals(1234500L, new MonetaryAmountToMinorUnitsConverter("BHD").convertToModel(Money.of(new BigDecimal("1234.5"), "BHD"), null)
+            .getOrThrow(IllegalStateException::new), "BHD has 3 fraction digits");
+    }
+
+    @Test
+    void testBigDecimal() {
+        MonetaryAmountToBigDecimalConverter converter = new MonetaryAmountToBigDecimalConverter("EUR");
+
+        assertEquals(new BigDecimal("1.00"), converter.convertToModel(FastMoney.of(1, "EUR"), null).getOrThrow(IllegalStateException::new));
+        assertEquals(new BigDecimal("0.1235"), new MonetaryAmountToBigDecimalConverter(Money.of(0, "EUR").getCurrency(), 4)
+            .convertToModel(Money.of(new BigDecimal("0.12345"), "EUR"), null).getOrThrow(IllegalStateException::new));
+        assertEquals(Money.of(new BigDecimal("987.65"), "EUR"), converter.convertToPresentation(new BigDecimal("987.65"), null));
+        assertTrue(converter.convertToModel(Money.of(1, "USD"), null).isError(), "amounts of other currencies must not be converted");
+    }
+
+    @Test
+    void testCurrencyIndexedLong() {
+        MonetaryAmountToCurrencyIndexedLongConverter converter = new MonetaryAmountToCurrencyIndexedLongConverter();
+
+        for (MonetaryAmount amount : new MonetaryAmount[] {
+            Money.of(new BigDecimal("123.45"), "EUR"), Money.of(new BigDecimal("-123.45"), "USD"), Money.of(1234, "JPY"),
+            Money.of(new BigDecimal("-0.001"), "BHD"), Money.of(new BigDecimal("90071992547409.91"), "EUR"), Money.of(0, "CHF")}) {
+            long encoded = converter.convertToModel(amount, null).getOrThrow(IllegalStateException::new);
+            assertTrue(converter.convertToPresentation(encoded, null).isEqualTo(amount), amount + " should survive encoding");
+        }
+
+        assertEquals(978L << MonetaryAmountToCurrencyIndexedLongConverter.AMOUNT_BITS | 100,
+            converter.convertToModel(Money.of(1, "EUR"), null).getOrThrow(IllegalStateException::new), "EUR has ISO-4217 numeric code 978");
+        assertTrue(converter.convertToModel(Money.of(new BigDecimal("1E+20"), "EUR"), null).isError(), "amount does not fit in the amount bits");
+    }
+
+    @Test
+    void testCurrencyUnitsAreResolvedOnce() {
+        assertSame(CurrencyUnits.of("EUR"), CurrencyUnits.of("EUR"));
+        assertEquals(Monetary.getCurrency("EUR"), CurrencyUnits.of("EUR"));
+        assertThrows(UnknownCurrencyException.class, () -> CurrencyUnits.of("XYZ"));
+        assertThrows(UnknownCurrencyException.class, () -> new MonetaryAmountToMinorUnitsConverter("XYZ"), "unknown codes must not be cached");
+    }
+}
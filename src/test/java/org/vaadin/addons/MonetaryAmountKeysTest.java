@@ -0,0 +1,126 @@
+package org.vaadin.addons;
+
+import com.vaadin.flow.data.provider.SortDirection;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the sort and filter keys of {@code MonetaryAmount}s and the parsing of {@code MoneyRange}s.
+ */
+public class MonetaryAmountKeysTest {
+    private static final Locale GERMANY = Locale.GERMANY;
+
+    @Test
+    void testKeysGroupedByCurrencyAreOrderedLikeAmounts() {
+        MonetaryAmountKeys keys = new MonetaryAmountKeys();
+        List<MonetaryAmount> sorted = List.of(
+            Money.of(new BigDecimal("-90071992547409.91"), "USD"), Money.of(-1, "USD"), Money.of(new BigDecimal("0.01"), "USD"),
+            Money.of(-1, "XAU"), Money.of(-5, "EUR"), FastMoney.of(0, "EUR"), Money.of(new BigDecimal("1234.5"), "EUR"));
+        for (int i = 1; i < sorted.size(); i++) {
+            assertTrue(keys.keyOf(sorted.get(i - 1)) < keys.keyOf(sorted.get(i)), sorted.get(i - 1) + " < " + sorted.get(i));
+        }
+        assertEquals(keys.keyOf(Money.of(new BigDecimal("1.005"), "EUR")), keys.keyOf(Money.of(1, "EUR")), "rounded half-even to minor units");
+        assertThrows(ArithmeticException.class, () -> keys.keyOf(Money.of(new BigDecimal("1E+20"), "EUR")));
+    }
+
+    @Test
+    void testKeysConvertedToReferenceCurrency() {
+        MonetaryAmountKeys keys = new MonetaryAmountKeys(Monetary.getCurrency("EUR"), Map.of("USD", new BigDecimal("0.9"), "JPY", 0.006));
+
+        assertEquals(10000L, keys.keyOf(Money.of(100, "EUR")));
+        assertEquals(9000L, keys.keyOf(Money.of(100, "USD")));
+        assertEquals(600L, keys.keyOf(Money.of(1000, "JPY")));
+        assertThrows(IllegalArgumentException.class, () -> keys.keyOf(Money.of(1, "CHF")), "CHF has no rate");
+    }
+
+    @Test
+    void testSortDerivesKeysAcrossCurrencies() {
+        MonetaryAmountKeys keys = new MonetaryAmountKeys(Monetary.getCurrency("EUR"), Map.of("USD", new BigDecimal("0.9")));
+        List<MonetaryAmount> amounts = new ArrayList<>(Arrays.asList(Money.of(100, "EUR"), null, Money.of(100, "USD"), Money.of(-1, "EUR")));
+
+        assertEquals(Arrays.asList(Money.of(-1, "EUR"), Money.of(100, "USD"), Money.of(100, "EUR"), null),
+            keys.sort(amounts, Function.identity(), SortDirection.ASCENDING));
+        assertEquals(Arrays.asList(Money.of(100, "EUR"), Money.of(100, "USD"), Money.of(-1, "EUR"), null),
+            keys.sort(amounts, Function.identity(), SortDirection.DESCENDING));
+    }
+
+    @Test
+    void testParseRanges() {
+        assertRange(null, "10", "1234.5", MoneyRange.parse("10..1.234,5", GERMANY));
+        assertRange("EUR", "-20", null, MoneyRange.parse(" eur -20 .. ", GERMANY));
+        assertRange("USD", null, "20", MoneyRange.parse("..20 USD", GERMANY));
+        assertRange(null, "15", "15", MoneyRange.parse("15", GERMANY));
+        assertThrows(IllegalArgumentException.class, () -> MoneyRange.parse("10..abc", GERMANY));
+        assertThrows(IllegalArgumentException.class, () -> MoneyRange.parse("XYZ 10", GERMANY));
+
+        assertEquals(Optional.of(new MoneyRange("EUR", null, null)), MoneyRange.of(Map.of("price", "EUR"), "price", GERMANY));
+        assertEquals(Optional.empty(), MoneyRange.of(Map.of("price", "10..abc"), "price", GERMANY), "invalid constraints are ignored");
+        assertEquals(Optional.empty(), MoneyRange.of(Map.of("name", "Item"), "price", GERMANY));
+    }
+
+    private static void assertRange(String currencyCode, String min, String max, MoneyRange range) {
+        assertEquals(currencyCode, range.currencyCode());
+        assertTrue(min == null ? range.min() == null : new BigDecimal(min).compareTo(range.min()) == 0, "min of " + range);
+        assertTrue(max == null ? range.max() == null : new BigDecimal(max).compareTo(range.max()) == 0, "max of " + range);
+    }
+
+    @Test
+    void testFilterByRange() {
+        List<MonetaryAmount> amounts = List.of(Money.of(5, "EUR"), Money.of(10, "EUR"), Money.of(20, "EUR"), Money.of(15, "USD"));
+
+        MonetaryAmountKeys byCurrency = new MonetaryAmountKeys();
+        assertEquals(List.of(Money.of(10, "EUR"), Money.of(20, "EUR")),
+            amounts.stream().filter(byCurrency.filter(MoneyRange.parse("EUR 10..20", GERMANY), Function.identity())).collect(Collectors.toList()));
+        assertThrows(IllegalArgumentException.class, () -> byCurrency.keyRangeOf(MoneyRange.parse("10..20", GERMANY)),
+            "amounts of different currencies are not comparable without rates");
+        assertFalse(byCurrency.keyRangeOf(MoneyRange.parse("EUR", GERMANY)).contains(byCurrency.keyOf(Money.of(1, "USD"))));
+
+        MonetaryAmountKeys converted = new MonetaryAmountKeys(Monetary.getCurrency("EUR"), Map.of("USD", new BigDecimal("0.9")));
+        assertEquals(List.of(Money.of(10, "EUR"), Money.of(15, "USD")),
+            amounts.stream().filter(converted.filter(MoneyRange.parse("10..15", GERMANY), Function.identity())).collect(Collectors.toList()));
+        assertEquals(List.of(Money.of(5, "EUR"), Money.of(10, "EUR"), Money.of(15, "USD")),
+            amounts.stream().filter(converted.filter(MoneyRange.parse("USD ..16,67", GERMANY), Function.identity())).collect(Collectors.toList()),
+            "16.67 USD are 15.00 EUR");
+    }
+
+    @Test
+    void testBoundsWithSubMinorUnitsAreRoundedInwards() {
+        List<MonetaryAmount> amounts = List.of(Money.of(10, "EUR"), Money.of(new BigDecimal("10.01"), "EUR"), Money.of(new BigDecimal("19.99"), "EUR"),
+            Money.of(20, "EUR"));
+        MoneyRange range = new MoneyRange("EUR", new BigDecimal("10.005"), new BigDecimal("19.995"));
+
+        MonetaryAmountKeys byCurrency = new MonetaryAmountKeys();
+        assertEquals(List.of(Money.of(new BigDecimal("10.01"), "EUR"), Money.of(new BigDecimal("19.99"), "EUR")),
+            amounts.stream().filter(byCurrency.filter(range, Function.identity())).collect(Collectors.toList()));
+        MonetaryAmount minusTen = Money.of(-10, "EUR");
+        assertEquals(List.of(minusTen), Stream.of(minusTen, Money.of(new BigDecimal("-10.01"), "EUR"))
+            .filter(byCurrency.filter(new MoneyRange("EUR", new BigDecimal("-10.005"), null), Function.identity())).collect(Collectors.toList()));
+
+        MonetaryAmountKeys converted = new MonetaryAmountKeys(Monetary.getCurrency("EUR"), Map.of("USD", new BigDecimal("0.95")));
+        assertEquals(List.of(Money.of(new BigDecimal("10.01"), "EUR"), Money.of(new BigDecimal("19.99"), "EUR")),
+            amounts.stream().filter(converted.filter(range, Function.identity())).collect(Collectors.toList()));
+        assertTrue(converted.filter(new MoneyRange("USD", new BigDecimal("10.01"), new BigDecimal("10.01")), Function.identity())
+            .test(Money.of(new BigDecimal("10.01"), "USD")), "amounts on a bound are converted like their keys");
+    }
+}
@@ -0,0 +1,75 @@
+package org.vaadin.addons;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Evaluates the conformance corpus shared with the client-side preview of calculable {@code MoneyField}s ({@code moneyfield-eval.ts}) on
+ * the server, see {@code eval-conformance.tsv}.
+ */
+public class MoneyFieldEvalConformanceTest {
+    private static final String CORPUS = "eval-conformance.tsv";
+    private static final String ERROR = "error";
+    private static final String PARAMETERS = "@";
+
+    @TestFactory
+    Stream<DynamicTest> testServerEvaluatesCorpus() throws IOException {
+        return readCorpus().stream().filter(entry -> !entry[0].startsWith(PARAMETERS)).map(entry -> DynamicTest.dynamicTest(entry[0] + " " + entry[1], () -> {
+            MoneyField.ParsedAmount parsedAmount = MoneyField.parseAmount(entry[1], true, Locale.forLanguageTag(entry[0]));
+            if (ERROR.equals(entry[2])) {
+                assertNull(parsedAmount, () -> "evaluated to " + parsedAmount.number());
+            } else {
+                assertNotNull(parsedAmount, "rejected");
+                assertEquals(0, new BigDecimal(entry[2]).compareTo(parsedAmount.number()), () -> "evaluated to " + parsedAmount.number());
+            }
+        }));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> testClientIsGivenCorpusParameters() throws IOException {
+        return readCorpus().stream().filter(entry -> entry[0].startsWith(PARAMETERS)).map(entry -> DynamicTest.dynamicTest(entry[0], () -> {
+            Serializable[] parameters = MoneyField.evaluatorParameters(Locale.forLanguageTag(entry[0].substring(PARAMETERS.length())));
+            assertEquals(List.of(entry[1], entry[2], Integer.valueOf(entry[3]), Integer.valueOf(entry[4]), Integer.valueOf(entry[5]), entry[6]),
+                List.of(parameters));
+        }));
+    }
+
+    /**
+     * @return the tab separated columns of all entries of the corpus, i.e. locale, expression and expected amount or the evaluator
+     * parameters of a locale
+     */
+    private static List<String[]> readCorpus() throws IOException {
+        List<String[]> entries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                MoneyFieldEvalConformanceTest.class.getResourceAsStream(CORPUS), StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] entry = line.replace("\\u00a0", "\u00a0").split("\t", -1);
+                assertEquals(entry[0].startsWith(PARAMETERS) ? 7 : 3, entry.length, line);
+                entries.add(entry);
+            }
+        }
+        assertFalse(entries.isEmpty());
+        assertTrue(entries.stream().anyMatch(entry -> ERROR.equals(entry[2])));
+        return entries;
+    }
+}
@@ -0,0 +1,190 @@
+package org.vaadin.addons;
+
+import com.github.mvysny.kaributesting.v10.BasicUtilsKt;
+import com.github.mvysny.kaributesting.v10.MockVaadin;
+import com.github.mvysny.kaributesting.v10.Routes;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.crud.Crud;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.javamoney.moneta.FastMoney;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static com.github.mvysny.kaributesting.v10.LocatorJ._click;
+import static com.github.mvysny.kaributesting.v10.LocatorJ._get;
+import static com.github.mvysny.kaributesting.v10.LocatorJ._setValue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Drives many concurrent sessions, each with its own mocked UI, through the flows of {@code View} and {@code CrudView} and reports p50, p99
+ * and max latency per operation plus the overall throughput. Fails if the configured budgets are exceeded.
+ * <p>
+ * Excluded from the normal build, run with the {@code load} profile, e.g.
+ * <pre>
+ * mvn test -Pload -Dmoneyfield.load.sessions=500 -Dmoneyfield.load.p99Millis=20
+ * </pre>
+ */
+@Tag("load")
+public class MoneyFieldLoadTest {
+    private static final int SESSIONS = Integer.getInteger("moneyfield.load.sessions", 200);
+    private static final int ITERATIONS = Integer.getInteger("moneyfield.load.iterations", 20);
+    private static final int PLATFORM_THREADS = Integer.getInteger("moneyfield.load.threads", Runtime.getRuntime().availableProcessors() * 4);
+    private static final long P99_BUDGET_MILLIS = Long.getLong("moneyfield.load.p99Millis", 50);
+    private static final long MAX_BUDGET_MILLIS = Long.getLong("moneyfield.load.maxMillis", 1000);
+    private static final long MIN_THROUGHPUT = Long.getLong("moneyfield.load.minThroughput", 500); //operations per second
+
+    private static Routes routes;
+
+    /**
+     * Latencies (in nanoseconds) of all sessions by operation.
+     */
+    private final Map<String, Queue<Long>> latencies = new TreeMap<>();
+
+    @BeforeAll
+    public static void discoverRoutes() {
+        routes = new Routes().autoDiscoverViews("org.vaadin.addons");
+    }
+
+    @Test
+    void testPlatformThreads() throws Exception {
+        run("platform threads", Executors.newFixedThreadPool(PLATFORM_THREADS));
+    }
+
+    @Test
+    void testVirtualThreads() throws Exception {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        assumeTrue(executor != null, "virtual threads need Java 21+");
+        run("virtual threads", executor);
+    }
+
+    /**
+     * @return an {@code ExecutorService} starting a virtual thread per session or {@code null} if the JVM has no virtual threads
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private void run(String threads, ExecutorService executor) throws Exception {
+        for (String operation : List.of("open View", "parse", "eval", "format", "submit", "open CrudView", "edit in Crud")) {
+            latencies.put(operation, new ConcurrentLinkedQueue<>());
+        }
+        List<Future<?>> sessions = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < SESSIONS; i++) {
+                sessions.add(executor.submit(this::runSession));
+            }
+            for (Future<?> session : sessions) {
+                session.get(); //rethrows failed assertions of the session
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long nanos = System.nanoTime() - start;
+
+        long operations = latencies.values().stream().mapToLong(Queue::size).sum();
+        double throughput = operations / (nanos / 1e9);
+        System.out.printf("%d sessions x %d iterations on %s:%n", SESSIONS, ITERATIONS, threads);
+        System.out.printf("  %-14s %10s %10s %10s %10s%n", "operation", "count", "p50 [ms]", "p99 [ms]", "max [ms]");
+        List<String> exceeded = new ArrayList<>();
+        latencies.forEach((operation, nanosOfOperation) -> {
+            long[] sorted = nanosOfOperation.stream().mapToLong(Long::longValue).sorted().toArray();
+            double p99 = percentile(sorted, 99) / 1e6;
+            double max = sorted[sorted.length - 1] / 1e6;
+            System.out.printf("  %-14s %10d %10.2f %10.2f %10.2f%n", operation, sorted.length, percentile(sorted, 50) / 1e6, p99, max);
+            if (p99 > P99_BUDGET_MILLIS || max > MAX_BUDGET_MILLIS) {
+                exceeded.add(operation);
+            }
+        });
+        System.out.printf("  throughput: %.0f operations/s%n", throughput);
+
+        assertTrue(exceeded.isEmpty(), "latency budget (p99 " + P99_BUDGET_MILLIS + " ms, max " + MAX_BUDGET_MILLIS + " ms) exceeded by " + exceeded);
+        assertTrue(throughput >= MIN_THROUGHPUT, "throughput below " + MIN_THROUGHPUT + " operations/s");
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.max(0, (int) Math.ceil(sorted.length * percentile / 100.0) - 1)];
+    }
+
+    /**
+     * Runs a single session on the current thread, i.e. with its own mocked {@code VaadinSession} and {@code UI}.
+     */
+    private void runSession() {
+        long start = System.nanoTime();
+        MockVaadin.setup(routes);
+        try {
+            record("open View", start);
+            View view = (View) UI.getCurrent().getChildren().findFirst().orElseThrow();
+            MoneyField money = _get(MoneyField.class, spec -> spec.withId("money"));
+            for (int i = 0; i < ITERATIONS; i++) {
+                String amount = (i + 1) + ".234,5";
+                start = System.nanoTime();
+                assertEquals(amount + "0", setAmount("money", amount));
+                record("parse", start);
+
+                start = System.nanoTime();
+                assertEquals("3,00", setAmount("calculableMoney", "(1,5 + " + i + ") * 2 - " + (2 * i)));
+                record("eval", start);
+
+                start = System.nanoTime();
+                _setValue(money, FastMoney.of(i, "EUR"));
+                record("format", start);
+
+                start = System.nanoTime();
+                _click(_get(Button.class, spec -> spec.withText("Ok")));
+                record("submit", start);
+                assertEquals(FastMoney.of(i, "EUR"), FastMoney.from(view.getModel().getMoney()));
+            }
+
+            start = System.nanoTime();
+            UI.getCurrent().navigate(CrudView.class);
+            @SuppressWarnings("unchecked")
+            Crud<CrudView.TestDto> crud = _get(Crud.class);
+            record("open CrudView", start);
+            for (int i = 0; i < ITERATIONS; i++) {
+                start = System.nanoTime();
+                crud.edit(crud.getDataProvider().fetch(new Query<>()).findFirst().orElseThrow(), Crud.EditMode.EXISTING_ITEM);
+                assertEquals("12,50", setAmount(_get(MoneyField.class, spec -> spec.withLabel("Price")), "12,5"));
+                record("edit in Crud", start);
+            }
+        } finally {
+            MockVaadin.tearDown();
+        }
+    }
+
+    private static String setAmount(String moneyFieldId, String newAmount) {
+        return setAmount(_get(MoneyField.class, spec -> spec.withId(moneyFieldId)), newAmount);
+    }
+
+    private static String setAmount(MoneyField moneyField, String newAmount) {
+        TextField amount = _get(moneyField, TextField.class, spec -> spec.withId(moneyField.getId().map(id -> id + ".amount").orElse("Amount")));
+        _setValue(amount, newAmount);
+        BasicUtilsKt._fireDomEvent(moneyField, "change"); //see MoneyFieldTest.setAndGetAmount
+        return amount.getValue();
+    }
+
+    private void record(String operation, long startNanos) {
+        latencies.get(operation).add(System.nanoTime() - startNanos);
+    }
+}
@@ -4,14 +4,41 @@ import com.github.mvysny.kaributesting.v10.BasicUtilsKt;
 import com.github.mvysny.kaributesting.v10.MockVaadin;
 import com.github.mvysny.kaributesting.v10.Routes;
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.customfield.CustomFieldVariant;
+import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.textfield.TextField;
-
+import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.shared.Registration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.money.MonetaryAmount;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +53,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -331,4 +360,277 @@ public class MoneyFieldTest {
         assertNull(amount.getPrefixComponent());
         assertTrue(currency.isVisible());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPushUpdatesAreCoalesced() {
+        MoneyField readOnlyMoney = _get(MoneyField.class, spec -> spec.withId("readOnlyMoney"));
+        List<MonetaryAmount> appliedValues = new ArrayList<>();
+        readOnlyMoney.addValueChangeListener(event -> appliedValues.add(event.getValue()));
+
+        MoneyFieldPushUpdater updater = new MoneyFieldPushUpdater(UI.getCurrent());
+        updater.update(readOnlyMoney, FastMoney.of(1, "EUR"));
+        updater.update(readOnlyMoney, FastMoney.of(2, "EUR"));
+        updater.update(readOnlyMoney, FastMoney.of(1234.5, "EUR"));
+        MockVaadin.runUIQueue();
+
+        assertEquals(List.of(FastMoney.of(1234.5, "EUR")), appliedValues, "only the latest pending value should be applied");
+        assertEquals("1.234,50", _get(TextField.class, spec -> spec.withId("readOnlyMoney.amount")).getValue());
+    }
+
+    @Test
+    void testPushUpdatesFromBackgroundThreads() throws InterruptedException {
+        MoneyField readOnlyMoney = _get(MoneyField.class, spec -> spec.withId("readOnlyMoney"));
+        MoneyFieldPushUpdater updater = new MoneyFieldPushUpdater(UI.getCurrent());
+
+        Thread background = new Thread(() -> updater.update(readOnlyMoney, FastMoney.of(42, "EUR"))); //without the UI lock
+        background.start();
+        background.join();
+        MockVaadin.runUIQueue();
+        assertEquals("42,00", _get(TextField.class, spec -> spec.withId("readOnlyMoney.amount")).getValue());
+
+        UI.getCurrent().setLocale(Locale.US);
+        updater.update(readOnlyMoney, FastMoney.of(1234.5, "EUR")); //formatted for the old locale
+        MockVaadin.runUIQueue();
+        assertEquals("1,234.50", _get(TextField.class, spec -> spec.withId("readOnlyMoney.amount")).getValue());
+
+        updater.update(readOnlyMoney, FastMoney.of(5, "EUR"));
+        MockVaadin.runUIQueue();
+        assertEquals("5.00", _get(TextField.class, spec -> spec.withId("readOnlyMoney.amount")).getValue(), "new locale picked up by flush");
+    }
+
+    @Test
+    void testPushUpdatesToDetachedUi() {
+        MoneyField field = new MoneyField("Amount", "EUR");
+        MoneyFieldPushUpdater updater = new MoneyFieldPushUpdater(new UI());
+
+        assertThrows(UIDetachedException.class, () -> updater.update(field, FastMoney.of(1, "EUR")));
+        assertThrows(UIDetachedException.class, () -> updater.update(field, FastMoney.of(2, "EUR")), "every update should fail");
+        assertNull(field.getValue());
+    }
+
+    @Test
+    void testTotals() {
+        MoneyField line1 = new MoneyField(FastMoney.of(1, "EUR"));
+        MoneyField line2 = new MoneyField(FastMoney.of(2.5, "EUR"));
+        MoneyField line3 = new MoneyField(FastMoney.of(10, "USD"));
+        MoneyTotalField total = new MoneyTotalField("Total");
+        total.register(line1);
+        total.register(line2);
+        Registration line3Registration = total.register(line3);
+
+        assertTrue(Money.of(3.5, "EUR").isEqualTo(total.getTotal("EUR")));
+        assertTrue(Money.of(10, "USD").isEqualTo(total.getTotal("USD")));
+
+        line1.setValue(FastMoney.of(4, "EUR"));
+        assertTrue(Money.of(6.5, "EUR").isEqualTo(total.getTotal("EUR")));
+
+        line2.setValue(FastMoney.of(2.5, "USD"));
+        assertTrue(Money.of(4, "EUR").isEqualTo(total.getTotal("EUR")));
+        assertTrue(Money.of(12.5, "USD").isEqualTo(total.getTotal("USD")));
+
+        line3Registration.remove();
+        assertTrue(Money.of(2.5, "USD").isEqualTo(total.getTotal("USD")));
+
+        line2.clear();
+        assertNull(total.getTotal("USD"), "no line in USD anymore");
+        assertEquals(1, total.getTotals().size());
+        assertEquals("4,00", _get(total, TextField.class).getValue(), "totals should be formatted like MoneyFields");
+    }
+
+    @Test
+    void testTotalsRegistrations() {
+        MoneyField line = new MoneyField(FastMoney.of(1, "EUR"));
+        MoneyTotalField total = new MoneyTotalField();
+        Registration registration = total.register(line);
+        assertThrows(IllegalArgumentException.class, () -> total.register(line), "registering twice would count the value twice");
+        assertTrue(Money.of(1, "EUR").isEqualTo(total.getTotal("EUR")));
+
+        line.setValue(FastMoney.of(7, "EUR"));
+        registration.remove();
+        assertNull(total.getTotal("EUR"), "the value counted last should be subtracted");
+        line.setValue(FastMoney.of(2, "EUR"));
+        assertNull(total.getTotal("EUR"), "removed fields should no longer be summed up");
+
+        Registration reregistration = total.register(line);
+        registration.remove();
+        assertTrue(Money.of(2, "EUR").isEqualTo(total.getTotal("EUR")), "stale registrations should not remove the field again");
+        reregistration.remove();
+        assertTrue(total.getTotals().isEmpty());
+    }
+
+    @Test
+    void testFlightRecorderEvents() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("org.vaadin.addons.MoneyField.Parse");
+            recording.enable("org.vaadin.addons.MoneyField.Eval");
+            recording.start();
+            setAndGetAmount("calculableMoney", "1+2+3");
+            setAndGetAmount("calculableMoney", "1 + 2x");
+            recording.stop();
+
+            Path file = Files.createTempFile("moneyfield", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+        RecordedEvent calculated = events.stream().filter(event -> event.getEventType().getName().endsWith(".Parse") && event.getInt("inputLength") == 5)
+            .findFirst().orElseThrow();
+        assertEquals("de-DE", calculated.getString("locale"));
+        assertEquals("EUR", calculated.getString("currency"));
+        assertTrue(calculated.getBoolean("success"));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().endsWith(".Parse") && event.getInt("inputLength") == 6
+            && !event.getBoolean("success")), "parsing '1 + 2x' should be recorded as failed");
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().endsWith(".Eval")));
+        assertTrue(events.stream().allMatch(event -> event.getFields().stream().noneMatch(field -> field.getName().contains("amount"))),
+            "events must never carry amounts");
+    }
+
+    @Test
+    void testLocaleChangeReformatsFields() {
+        Locale locale = UI.getCurrent().getLocale();
+        MoneyField money = _get(MoneyField.class, spec -> spec.withId("money"));
+        MoneyField readOnlyMoney = _get(MoneyField.class, spec -> spec.withId("readOnlyMoney"));
+        money.setValue(FastMoney.of(1234.5, "EUR"));
+        readOnlyMoney.setValue(FastMoney.of(1, "USD"));
+        assertEquals("$", _get(TextField.class, spec -> spec.withId("readOnlyMoney.amount")).getPrefixComponent().getElement().getText());
+
+        UI.getCurrent().setLocale(new Locale("en", "CA"));
+        assertEquals("1,234.50", _get(TextField.class, spec -> spec.withId("money.amount")).getValue());
+        assertEquals("1.00", _get(TextField.class, spec -> spec.withId("readOnlyMoney.amount")).getValue());
+        assertEquals("US$", _get(TextField.class, spec -> spec.withId("readOnlyMoney.amount")).getPrefixComponent().getElement().getText());
+
+        UI.getCurrent().setLocale(locale);
+        assertEquals("1.234,50", _get(TextField.class, spec -> spec.withId("money.amount")).getValue());
+        assertEquals("$", _get(TextField.class, spec -> spec.withId("readOnlyMoney.amount")).getPrefixComponent().getElement().getText());
+    }
+
+    @Test
+    void testSerializationSharesAvailableCurrencyCodes() throws IOException, ClassNotFoundException {
+        MoneyField shared = new MoneyField(Money.of(1, "EUR"));
+        MoneyField copied = new MoneyField(Money.of(1, "EUR"), new ArrayList<>(MoneyField.AvailableCurrencyCodes.INSTANCE), false);
+        int sharedBytes = serialize(shared).length;
+        int copiedBytes = serialize(copied).length;
+        assertTrue(copiedBytes - sharedBytes > 1000,
+            "the shared currency codes should not be serialized (" + sharedBytes + " bytes instead of " + copiedBytes + " bytes per field)");
+
+        MoneyField deserialized = (MoneyField) new ObjectInputStream(new ByteArrayInputStream(serialize(shared))).readObject();
+        assertEquals(Money.of(1, "EUR"), deserialized.getValue());
+        ComboBox<?> currency = _get(deserialized, ComboBox.class, spec -> spec.withId("Currency"));
+        assertSame(MoneyField.AvailableCurrencyCodes.INSTANCE, ((ListDataProvider<?>) currency.getDataProvider()).getItems(),
+            "the currency codes should be restored by reference");
+    }
+
+    @Test
+    void testBulkPaste() {
+        List<List<MoneyField>> cells = new ArrayList<>();
+        Div grid = new Div();
+        for (int row = 0; row < 3; row++) {
+            MoneyField net = new MoneyField("Net", "EUR");
+            MoneyField gross = new MoneyField("Gross", "EUR", true);
+            cells.add(List.of(net, gross));
+            grid.add(net, gross);
+        }
+        cells.get(2).get(1).setReadOnly(true);
+        UI.getCurrent().add(grid);
+        MoneyFieldPasteHandler pasteHandler = new MoneyFieldPasteHandler(grid, cells);
+        List<List<MoneyFieldPasteHandler.PastedCell>> notified = new ArrayList<>();
+        pasteHandler.addPasteListener(notified::add);
+
+        List<MoneyFieldPasteHandler.PastedCell> pasted = pasteHandler.paste(0, 0, "1.234,5\t1 + 2\r\nabc\t\n-3\t4\tignored\nignored\r\n");
+
+        assertEquals(List.of(pasted), notified);
+        assertEquals(5, pasted.size(), "the read-only field and cells outside of the grid should be skipped");
+        assertEquals(Money.of(new BigDecimal("1234.50"), "EUR"), cells.get(0).get(0).getValue());
+        assertEquals(Money.of(3, "EUR"), cells.get(0).get(1).getValue());
+        assertEquals(Money.of(-3, "EUR"), cells.get(2).get(0).getValue());
+        assertFalse(pasted.get(2).valid());
+        assertEquals("abc", _get(cells.get(1).get(0), TextField.class, spec -> spec.withId("Amount")).getValue());
+        assertTrue(cells.get(1).get(0).isInvalid());
+        assertNull(cells.get(1).get(1).getValue());
+        assertTrue(pasted.get(3).valid(), "empty cells should clear the field");
+        assertNull(cells.get(2).get(1).getValue());
+    }
+
+    @Test
+    void testMalformedPasteEventsAreIgnored() {
+        MoneyField field = new MoneyField("Amount", "EUR");
+        Div grid = new Div(field);
+        UI.getCurrent().add(grid);
+        MoneyFieldPasteHandler pasteHandler = new MoneyFieldPasteHandler(grid, List.of(List.of(field)));
+        List<List<MoneyFieldPasteHandler.PastedCell>> notified = new ArrayList<>();
+        pasteHandler.addPasteListener(notified::add);
+
+        for (String cell : new String[] {null, "", "0", "a,b", "-1,0", "0,-1", "0,0,0", "99999999999,0"}) {
+            JsonObject eventData = Json.createObject();
+            if (cell != null) {
+                eventData.put("event.detail.cell", cell);
+            }
+            eventData.put("event.detail.text", "1\t2");
+            BasicUtilsKt._fireDomEvent(grid, "moneyfield-paste", eventData);
+        }
+        JsonObject withoutText = Json.createObject();
+        withoutText.put("event.detail.cell", "0,0");
+        BasicUtilsKt._fireDomEvent(grid, "moneyfield-paste", withoutText);
+        assertTrue(notified.isEmpty(), "malformed events should be dropped");
+        assertEquals(List.of(), pasteHandler.paste(-1, 0, "1"));
+        assertEquals(List.of(), pasteHandler.paste(0, 0, null));
+        assertNull(field.getValue());
+
+        JsonObject eventData = Json.createObject();
+        eventData.put("event.detail.cell", "0,0");
+        eventData.put("event.detail.text", "5\t6");
+        BasicUtilsKt._fireDomEvent(grid, "moneyfield-paste", eventData);
+        assertEquals(1, notified.size());
+        assertEquals(Money.of(5, "EUR"), field.getValue());
+    }
+
+    @Test
+    void testLargeBulkPasteIsParsedInParallel() {
+        List<List<MoneyField>> cells = new ArrayList<>();
+        Div grid = new Div();
+        StringBuilder text = new StringBuilder();
+        for (int row = 0; row < MoneyFieldPasteHandler.PARALLEL_THRESHOLD * 2; row++) {
+            MoneyField field = new MoneyField("Amount", "EUR");
+            cells.add(List.of(field));
+            grid.add(field);
+            text.append(row).append(",5\tignored\n");
+        }
+        text.append("ignored\n".repeat(1000));
+        UI.getCurrent().add(grid);
+        AtomicInteger parseTasks = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        MoneyFieldPasteHandler pasteHandler = new MoneyFieldPasteHandler(grid, cells, task -> {
+            parseTasks.incrementAndGet();
+            executor.execute(task);
+        });
+
+        try {
+            assertEquals(2, pasteHandler.paste(0, 0, "1\n2").size());
+            assertEquals(0, parseTasks.get(), "small pastes should be parsed by the calling thread");
+
+            List<MoneyFieldPasteHandler.PastedCell> pasted = pasteHandler.paste(0, 0, text.toString());
+
+            assertTrue(parseTasks.get() > 0, "large pastes should be parsed by the executor");
+            assertEquals(cells.size(), pasted.size(), "lines and cells outside of the grid should be ignored");
+            assertTrue(pasted.stream().allMatch(MoneyFieldPasteHandler.PastedCell::valid));
+            for (int row = 0; row < cells.size(); row++) {
+                assertEquals(Money.of(new BigDecimal(row + ".50"), "EUR"), cells.get(row).get(0).getValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,59 @@
+package org.vaadin.addons;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.text.ParseException;
+import java.util.Locale;
+
+/**
+ * Compares startup time, heap and throughput of the {@code MoneyFormatBackend}s. Each backend must be measured in a fresh JVM, since class
+ * loading and resource bundles dominate the startup time, e.g.
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.vaadin.addons.MoneyFormatBackendBenchmark -Dexec.args=icu
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.vaadin.addons.MoneyFormatBackendBenchmark -Dexec.args=jdk
+ * </pre>
+ */
+public class MoneyFormatBackendBenchmark {
+    private static final Locale[] LOCALES = {Locale.US, Locale.UK, Locale.GERMANY, Locale.FRANCE, Locale.ITALY, new Locale("de", "AT")};
+    private static final BigDecimal[] AMOUNTS = {new BigDecimal("0.5"), new BigDecimal("-1234.567"), new BigDecimal("987654321.01")};
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 1_000_000;
+
+    public static void main(String[] args) throws ParseException {
+        String name = args.length > 0 ? args[0] : "icu";
+        long heapBefore = usedHeap();
+
+        long start = System.nanoTime();
+        MoneyFormatBackend backend = MoneyFormatBackends.select(name);
+        for (Locale locale : LOCALES) {
+            backend.parse(backend.format(AMOUNTS[0], locale), locale);
+        }
+        long startupNanos = System.nanoTime() - start;
+        long heapAfterStartup = usedHeap();
+
+        long checksum = run(backend, WARMUP_ROUNDS);
+        start = System.nanoTime();
+        checksum += run(backend, MEASURED_ROUNDS);
+        long measuredNanos = System.nanoTime() - start;
+
+        System.out.printf("backend:    %s%n", name);
+        System.out.printf("startup:    %.1f ms (first format and parse of %d locales)%n", startupNanos / 1e6, LOCALES.length);
+        System.out.printf("heap:       %.1f MB retained after startup%n", (heapAfterStartup - heapBefore) / 1024.0 / 1024.0);
+        System.out.printf("throughput: %.0f format+parse/s (checksum %d)%n", MEASURED_ROUNDS / (measuredNanos / 1e9), checksum);
+    }
+
+    private static long run(MoneyFormatBackend backend, int rounds) throws ParseException {
+        long checksum = 0;
+        for (int i = 0; i < rounds; i++) {
+            Locale locale = LOCALES[i % LOCALES.length];
+            String formatted = backend.format(AMOUNTS[i % AMOUNTS.length], locale);
+            checksum += backend.parse(MoneyField.sanitizeAmount(formatted), locale).signum();
+        }
+        return checksum;
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,151 @@
+package org.vaadin.addons;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.ParseException;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@code MoneyFormatBackend} implementations.
+ */
+public class MoneyFormatBackendTest {
+    private static final Locale[] WESTERN_LOCALES = {Locale.US, Locale.UK, Locale.GERMANY};
+    private static final String[] SAMPLE_AMOUNTS = {"0", "-0.001", "0.005", "-0.015", "1", "-1", "12.345", "999.995", "1234.5", "-12345.678",
+        "123456.789", "-1234567.891", "-71000000000000.01"};
+
+    private final MoneyFormatBackend icu = new IcuMoneyFormatBackend();
+    private final MoneyFormatBackend jdk = new JdkMoneyFormatBackend();
+
+    @Test
+    void testDefaultIsTable() {
+        assertTrue(MoneyFormatBackend.getDefault() instanceof TableMoneyFormatBackend);
+        assertTrue(MoneyFormatBackends.untabulated() instanceof IcuMoneyFormatBackend, "ICU4J is on the classpath");
+        assertTrue(MoneyFormatBackends.select("icu") instanceof IcuMoneyFormatBackend);
+        assertTrue(MoneyFormatBackends.select("jdk") instanceof JdkMoneyFormatBackend);
+        assertTrue(MoneyFormatBackends.select(IcuMoneyFormatBackend.class.getName()) instanceof IcuMoneyFormatBackend);
+    }
+
+    @Test
+    void testJdkFormatsLikeIcuForWesternLocales() throws ParseException {
+        for (Locale locale : WESTERN_LOCALES) {
+            for (String amount : new String[] {"0", "1", "-1.005", "1234.5", "1234567.891", "-71000000000000.01"}) {
+                String expected = MoneyField.sanitizeAmount(icu.format(new BigDecimal(amount), locale));
+                assertEquals(expected, MoneyField.sanitizeAmount(jdk.format(new BigDecimal(amount), locale)), amount + " in " + locale);
+                assertEquals(0, icu.parse(expected, locale).compareTo(jdk.parse(expected, locale)), expected + " in " + locale);
+            }
+            assertEquals(icu.getMaximumFractionDigits(locale), jdk.getMaximumFractionDigits(locale));
+            assertEquals(RoundingMode.HALF_EVEN, jdk.getRoundingMode(locale));
+        }
+    }
+
+    @Test
+    void testJdkParsesGroupingLeniently() throws ParseException {
+        assertEquals(new BigDecimal("123456.789"), jdk.parse("123 456,789", new Locale("pl", "PL")));
+        assertEquals(new BigDecimal("123456.789"), jdk.parse("123 456,789", new Locale("pl", "PL")));
+        assertEquals(new BigDecimal("123456.789"), jdk.parse("1,23,456.789", new Locale("hi", "IN")));
+        assertEquals(new BigDecimal("-5214.12"), jdk.parse(" -5.214,12", Locale.GERMANY));
+        assertThrows(ParseException.class, () -> jdk.parse("12x", Locale.GERMANY));
+    }
+
+    @Test
+    void testOnlyIcuSupportsVariableWidthGroups() {
+        assertEquals("1,23,456.79", MoneyField.sanitizeAmount(icu.format(new BigDecimal("123456.789"), new Locale("hi", "IN"))));
+        assertEquals("123,456.79", MoneyField.sanitizeAmount(jdk.format(new BigDecimal("123456.789"), new Locale("hi", "IN"))));
+    }
+
+    @Test
+    void testTablesFormatLikeIcu() throws ParseException {
+        TableMoneyFormatBackend table = new TableMoneyFormatBackend(icu);
+        String configuredLocales = System.getProperty("moneyfield.tables.locales", "en-US,de-DE,pl-PL,hi-IN"); //set by the build
+        for (String tag : configuredLocales.split("\\s*,\\s*")) {
+            Locale locale = Locale.forLanguageTag(tag);
+            assertTrue(table.getLocales().contains(locale), tag + " is configured in pom.xml");
+            for (String amount : SAMPLE_AMOUNTS) {
+                String expected = icu.format(new BigDecimal(amount), locale);
+                assertEquals(expected, table.format(new BigDecimal(amount), locale), amount + " in " + locale);
+                String expectedAmount = MoneyField.sanitizeAmount(expected);
+                assertEquals(0, icu.parse(expectedAmount, locale).compareTo(table.parse(expectedAmount, locale)), expectedAmount + " in " + locale);
+            }
+            assertEquals(icu.getMaximumFractionDigits(locale), table.getMaximumFractionDigits(locale));
+            assertEquals(icu.getRoundingMode(locale), table.getRoundingMode(locale));
+            assertEquals(icu.getDecimalSeparator(locale), table.getDecimalSeparator(locale));
+            assertEquals(icu.getGroupingSeparators(locale), table.getGroupingSeparators(locale));
+            assertEquals(icu.getCurrencySymbol("EUR", locale), table.getCurrencySymbol("EUR", locale));
+        }
+    }
+
+    @Test
+    void testTablesFallBackForUncoveredLocalesAndInput() throws ParseException {
+        TableMoneyFormatBackend table = new TableMoneyFormatBackend(icu);
+        Locale swiss = new Locale("de", "CH");
+        assertEquals(icu.format(new BigDecimal("1234.5"), swiss), table.format(new BigDecimal("1234.5"), swiss));
+        assertEquals(new BigDecimal("-5214.12"), table.parse(" -5.214,12", Locale.GERMANY));
+        assertThrows(ParseException.class, () -> table.parse("12x", Locale.GERMANY));
+    }
+
+    @Test
+    void testBackendsWithoutIcu() throws Exception {
+        ClassLoader withoutIcu = new IcuHidingClassLoader(getClass().getClassLoader());
+        assertThrows(ClassNotFoundException.class, () -> Class.forName("com.ibm.icu.text.NumberFormat", false, withoutIcu));
+        Method select = Class.forName(MoneyFormatBackends.class.getName(), true, withoutIcu).getDeclaredMethod("select", String.class);
+        select.setAccessible(true);
+        Method untabulated = select.getDeclaringClass().getDeclaredMethod("untabulated");
+        untabulated.setAccessible(true);
+        Method format = Class.forName(MoneyFormatBackend.class.getName(), true, withoutIcu).getMethod("format", BigDecimal.class, Locale.class);
+
+        assertEquals(JdkMoneyFormatBackend.class.getName(), untabulated.invoke(null).getClass().getName());
+        for (String name : new String[] {null, "table", "jdk"}) {
+            Object backend = select.invoke(null, name);
+            for (Locale locale : new Locale[] {Locale.US, Locale.GERMANY, new Locale("de", "CH")}) {
+                assertEquals(MoneyField.sanitizeAmount(jdk.format(new BigDecimal("1234.5"), locale)),
+                    MoneyField.sanitizeAmount((String) format.invoke(backend, new BigDecimal("1234.5"), locale)), name + " backend in " + locale + " without ICU4J");
+            }
+        }
+        InvocationTargetException icuSelected = assertThrows(InvocationTargetException.class, () -> select.invoke(null, "icu"));
+        assertTrue(icuSelected.getCause() instanceof IllegalStateException, "no NoClassDefFoundError");
+    }
+
+    /**
+     * Loads the classes of moneyfield itself (but not of its dependencies) as if ICU4J was not on the classpath.
+     */
+    private static final class IcuHidingClassLoader extends ClassLoader {
+        private IcuHidingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith("com.ibm.icu.")) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!name.startsWith(MoneyFormatBackend.class.getPackageName() + ".")) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loadedClass = findLoadedClass(name);
+                if (loadedClass == null) {
+                    try (InputStream classFile = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        if (classFile == null) {
+                            throw new ClassNotFoundException(name);
+                        }
+                        byte[] bytes = classFile.readAllBytes();
+                        loadedClass = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return loadedClass;
+            }
+        }
+    }
+}